@@ -276,6 +276,10 @@ public class DataInitializer {
                 title = title.replace("[ARTIST NAME]", randomArtistName).replace("[BAND NAME]", randomArtistName);
                 content = content.replace("[ARTIST NAME]", randomArtistName).replace("[BAND NAME]", randomArtistName);
 
+                // 게시글 좋아요 1~3개 (like_count 는 원자적 UPDATE 로만 바뀌므로 생성 시점에 맞춰 넣음)
+                List<User> likeUsers = new ArrayList<>(postWriters);
+                Collections.shuffle(likeUsers);
+                int likeCount = random.nextInt(3) + 1;
 
                 Post post = Post.builder()
                         .title(title)
@@ -283,6 +287,7 @@ public class DataInitializer {
                         .writer(writer)
                         .category(category)
                         .viewCount(random.nextInt(1000))
+                        .likeCount(likeCount)
                         .live(live)
                         .build();
 
@@ -309,18 +314,13 @@ public class DataInitializer {
                 }
                 postRepository.save(savedPost); // 카운트 업데이트 반영
 
-                // 게시글 좋아요 1~3개 생성
-                List<User> likeUsers = new ArrayList<>(postWriters);
-                Collections.shuffle(likeUsers);
-                int likeCount = random.nextInt(3) + 1;
+                // 게시글 좋아요 생성
                 for (int k = 0; k < likeCount; k++) {
                     User likeUser = likeUsers.get(k);
                     PostLike postLike = PostLike.builder().user(likeUser).post(savedPost).build();
                     postLike.setEmbeddedId();
                     postLikesToSave.add(postLike);
-                    savedPost.increaseLikeCount(); // Post 엔티티의 likeCount 업데이트
                 }
-                postRepository.save(savedPost); // 좋아요 카운트 업데이트 반영
             }
 
             postLikeRepository.saveAll(postLikesToSave);
@@ -2,7 +2,10 @@ package com.team7.ConcerTUNE.controller;
 
 import com.team7.ConcerTUNE.dto.ChatHistoryResponse;
 import com.team7.ConcerTUNE.dto.ChatMessageDto;
+import com.team7.ConcerTUNE.dto.ChatReplayResponse;
 import com.team7.ConcerTUNE.service.ChatService;
+import com.team7.ConcerTUNE.service.ChatStreamTransport;
+import com.team7.ConcerTUNE.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,14 +17,29 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ChatController {
     private final ChatService chatService;
+    private final ChatStreamTransport chatStreamTransport;
 
     @GetMapping("/history/{roomId}")
     public ResponseEntity<ChatHistoryResponse> getChatHistory(
             @PathVariable String roomId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String after) {
 
-        ChatHistoryResponse response = chatService.getHistory(roomId, page, size);
+        // after=<createdAt,id> 가 있으면 커서 모드
+        ChatHistoryResponse response = (after != null)
+                ? chatService.getHistoryAfter(roomId, KeysetCursor.parse(after), size)
+                : chatService.getHistory(roomId, page, size);
         return ResponseEntity.ok(response);
     }
+
+    // 재접속 시 마지막으로 받은 streamId 이후 메시지 (Redis 스트림에서, truncated 면 history 로 대체)
+    @GetMapping("/replay/{roomId}")
+    public ResponseEntity<ChatReplayResponse> replay(
+            @PathVariable String roomId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "100") int size) {
+
+        return ResponseEntity.ok(chatStreamTransport.replay(roomId, after, size));
+    }
 }
\ No newline at end of file
@@ -1,15 +1,22 @@
 package com.team7.ConcerTUNE.controller;
 
 import com.team7.ConcerTUNE.dto.ChatMessageDto;
+import com.team7.ConcerTUNE.exception.ChatOverloadedException;
+import com.team7.ConcerTUNE.exception.ErrorResponse;
 import com.team7.ConcerTUNE.service.ChatService;
 import com.team7.ConcerTUNE.service.RedisChatManagerService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
+import java.time.LocalDateTime;
+
 @Controller
 @RequiredArgsConstructor
 public class ChatWebSocketController {
@@ -21,6 +28,19 @@ public class ChatWebSocketController {
         chatService.sendMessage(chatMessage);
     }
 
+    // 전송이 거부되면 보낸 세션에만 에러 메시지 (/user/queue/errors)
+    @MessageExceptionHandler(ChatOverloadedException.class)
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public ErrorResponse handleOverloaded(ChatOverloadedException e) {
+        return ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(e.getMessage())
+                .path("/app/chat.sendMessage")
+                .build();
+    }
+
     @MessageMapping("/chat.addUser/{roomId}")
     public void addUser(
             @DestinationVariable String roomId,
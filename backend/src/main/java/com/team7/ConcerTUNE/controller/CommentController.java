@@ -9,11 +9,13 @@ import com.team7.ConcerTUNE.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import com.team7.ConcerTUNE.security.SimpleUserDetails;
+import com.team7.ConcerTUNE.util.KeysetCursor;
 
 import java.util.List;
 
@@ -36,6 +38,31 @@ public class CommentController {
 		return ResponseEntity.ok(comments);
 	}
 
+	// 게시글의 댓글 페이지 (최상위 댓글 after=<createdAt,id> 커서 + 각 댓글의 첫 replies 개 답글)
+	@GetMapping("/api/posts/{postId}/comments/page")
+	public ResponseEntity<Slice<CommentResponse>> getCommentPage(
+			@PathVariable Long postId,
+			@RequestParam(required = false) String after,
+			@RequestParam(defaultValue = "20") int size,
+			@RequestParam(defaultValue = "3") int replies
+	) {
+		log.info("댓글 페이지 조회 요청: postId={}, after={}, size={}, replies={}", postId, after, size, replies);
+		KeysetCursor cursor = after != null ? KeysetCursor.parse(after) : null;
+		return ResponseEntity.ok(commentService.getCommentPage(postId, cursor, size, replies));
+	}
+
+	// 댓글의 답글 조회 (after=<createdAt,id> 커서)
+	@GetMapping("/api/comments/{commentId}/replies")
+	public ResponseEntity<Slice<CommentResponse>> getReplies(
+			@PathVariable Long commentId,
+			@RequestParam(required = false) String after,
+			@RequestParam(defaultValue = "20") int size
+	) {
+		log.info("답글 조회 요청: commentId={}, after={}, size={}", commentId, after, size);
+		KeysetCursor cursor = after != null ? KeysetCursor.parse(after) : null;
+		return ResponseEntity.ok(commentService.getReplies(commentId, cursor, size));
+	}
+
 	// 댓글 작성
 	@PreAuthorize("isAuthenticated()")
 	@PostMapping("/api/posts/{postId}/comments")
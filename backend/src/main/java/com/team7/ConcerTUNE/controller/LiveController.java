@@ -7,11 +7,13 @@ import com.team7.ConcerTUNE.dto.LiveSummaryResponse;
 import com.team7.ConcerTUNE.entity.User;
 import com.team7.ConcerTUNE.security.SimpleUserDetails;
 import com.team7.ConcerTUNE.service.LiveService;
+import com.team7.ConcerTUNE.service.LiveSurgeService;
 import com.team7.ConcerTUNE.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,42 +27,59 @@ import java.util.List;
 public class LiveController {
     private final LiveService liveService;
     private final UserService userService;
+    private final LiveSurgeService liveSurgeService;
 
+    // after=<마지막 공연 ID> 가 있으면 커서 모드 (count 쿼리 없음)
     @GetMapping
-    public ResponseEntity<Page<LiveSummaryResponse>> getAllLives(
+    public ResponseEntity<Slice<LiveSummaryResponse>> getAllLives(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long after,
             @AuthenticationPrincipal SimpleUserDetails principal
     ) {
-        Pageable pageable = PageRequest.of(page, size);
-
         User user = null;
         if (principal != null) {
             user = userService.findEntityById(principal.getUserId());
         }
 
+        if (after != null) {
+            return ResponseEntity.ok(liveService.getAllLivesAfter(after, size, user));
+        }
+
+        Pageable pageable = PageRequest.of(page, size);
         Page<LiveSummaryResponse> lives = liveService.getAllLives(pageable, user);
         return ResponseEntity.ok(lives);
     }
 
+    // 티켓 오픈 임박 공연은 동시 요청이 많으면 대기열(429)로 응답
     @GetMapping("/{liveId}")
     public ResponseEntity<LiveResponse> getLive(
             @PathVariable Long liveId,
+            @RequestHeader(value = "X-Queue-Token", required = false) String queueToken,
             @AuthenticationPrincipal SimpleUserDetails principal
     ) {
-        User user = null;
-        if (principal != null) {
-            user = userService.findEntityById(principal.getUserId());
+        String clientKey = liveSurgeService.clientKeyOf(principal, queueToken);
+        try (LiveSurgeService.Permit permit = liveSurgeService.enter(liveId, clientKey)) {
+            User user = null;
+            if (principal != null) {
+                user = userService.findEntityById(principal.getUserId());
+            }
+            LiveResponse live = liveService.getLive(liveId, user);
+            return ResponseEntity.ok(live);
         }
-        LiveResponse live = liveService.getLive(liveId, user);
-        return ResponseEntity.ok(live);
     }
 
     @GetMapping("/{liveId}/artists")
-    public ResponseEntity<List<ArtistSummaryDto>> getArtists(@PathVariable Long liveId) {
-        List<ArtistSummaryDto> artists = liveService.getArtists(liveId);
-        ;
-        return ResponseEntity.ok(artists);
+    public ResponseEntity<List<ArtistSummaryDto>> getArtists(
+            @PathVariable Long liveId,
+            @RequestHeader(value = "X-Queue-Token", required = false) String queueToken,
+            @AuthenticationPrincipal SimpleUserDetails principal
+    ) {
+        String clientKey = liveSurgeService.clientKeyOf(principal, queueToken);
+        try (LiveSurgeService.Permit permit = liveSurgeService.enter(liveId, clientKey)) {
+            List<ArtistSummaryDto> artists = liveService.getArtists(liveId);
+            return ResponseEntity.ok(artists);
+        }
     }
 
     @GetMapping("/upcoming")
@@ -4,23 +4,27 @@ import com.team7.ConcerTUNE.dto.PostCreateRequest;
 import com.team7.ConcerTUNE.dto.PostCreateWithLIveIdRequest;
 import com.team7.ConcerTUNE.dto.PostUpdateRequest;
 import com.team7.ConcerTUNE.dto.PostResponse;
+import com.team7.ConcerTUNE.dto.PostSummaryResponse;
 import com.team7.ConcerTUNE.entity.CommunityCategoryType;
 import com.team7.ConcerTUNE.entity.User;
 import com.team7.ConcerTUNE.service.AuthService;
 import com.team7.ConcerTUNE.service.PostService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import com.team7.ConcerTUNE.security.SimpleUserDetails;
+import com.team7.ConcerTUNE.util.KeysetCursor;
 
 import java.util.List;
 
@@ -34,38 +38,49 @@ public class PostController {
 	private final PostService postService;
 	private final AuthService authService;
 
-	// 카테고리별 게시글 조회
+	// 카테고리별 게시글 조회 (after=<createdAt,id> 가 있으면 커서 모드)
 	@GetMapping("/category/{category}")
-	public ResponseEntity<Page<PostResponse>> getPostsByCategory(
+	public ResponseEntity<Slice<PostSummaryResponse>> getPostsByCategory(
 			@PathVariable CommunityCategoryType category,
 			@RequestParam(defaultValue = "0") int page,
-			@RequestParam(defaultValue = "10") int size
+			@RequestParam(defaultValue = "10") int size,
+			@RequestParam(required = false) String after
 	) {
-		log.info("카테고리별 게시글 조회 요청: category={}, page={}, size={}", category, page, size);
-		Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-		Page<PostResponse> posts = postService.getPostsByCategory(category, pageable);
+		log.info("카테고리별 게시글 조회 요청: category={}, page={}, size={}, after={}", category, page, size, after);
+		if (after != null) {
+			return ResponseEntity.ok(postService.getPostsByCategoryAfter(category, KeysetCursor.parse(after), size));
+		}
+		// 정렬은 쿼리에 고정 (최신순)
+		Pageable pageable = PageRequest.of(page, size);
+		Page<PostSummaryResponse> posts = postService.getPostsByCategory(category, pageable);
 		return ResponseEntity.ok(posts);
 	}
 
 	// 특정 게시글 조회
 	@GetMapping("/{postId}")
 	public ResponseEntity<PostResponse> getPost(
-			@PathVariable Long postId
+			@PathVariable Long postId,
+			@AuthenticationPrincipal SimpleUserDetails principal,
+			HttpServletRequest request
 	) {
 		log.info("게시글 조회 요청: postId={}",  postId);
-		PostResponse post = postService.getPost(postId);
+		// 같은 조회자의 반복 조회는 하루 한 번만 집계
+		String viewerKey = principal != null
+				? "user:" + principal.getUserId()
+				: "ip:" + request.getRemoteAddr();
+		PostResponse post = postService.getPost(postId, viewerKey);
 		return ResponseEntity.ok(post);
 	}
 
 	@GetMapping("/live/{liveId}/category/{category}")
-	public ResponseEntity<Page<PostResponse>> getPostsByLiveAndCategory(
+	public ResponseEntity<Page<PostSummaryResponse>> getPostsByLiveAndCategory(
 			@PathVariable Long liveId,
 			@PathVariable CommunityCategoryType category,
 			@RequestParam(defaultValue = "0") int page,
 			@RequestParam(defaultValue = "10") int size
 	) {
-		Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-		Page<PostResponse> posts = postService.getPostsByLiveAndCategory(liveId, category, pageable);
+		Pageable pageable = PageRequest.of(page, size);
+		Page<PostSummaryResponse> posts = postService.getPostsByLiveAndCategory(liveId, category, pageable);
 		return ResponseEntity.ok(posts);
 	}
 
@@ -115,38 +130,52 @@ public class PostController {
 		return ResponseEntity.ok().build();
 	}
 
+	// 팔로잉 게시글 조회 (after=<마지막으로 받은 게시글 ID> 로 다음 페이지)
+	@PreAuthorize("isAuthenticated()")
+	@GetMapping("/following")
+	public ResponseEntity<Slice<PostSummaryResponse>> getFollowingPosts(
+			@RequestParam(required = false) Long after,
+			@RequestParam(defaultValue = "10") int size,
+			@AuthenticationPrincipal SimpleUserDetails principal
+	) {
+		log.info("팔로잉 게시글 조회 요청: userId={}, after={}, size={}", principal.getUserId(), after, size);
+		return ResponseEntity.ok(postService.getFollowingPosts(principal.getUserId(), after, size));
+	}
+
 	// 게시글 검색
 	@GetMapping
-	public ResponseEntity<Page<PostResponse>> searchPosts(
+	public ResponseEntity<Page<PostSummaryResponse>> searchPosts(
 			@RequestParam String keyword,
+			@RequestParam(required = false) CommunityCategoryType category,
 			@RequestParam(defaultValue = "0") int page,
 			@RequestParam(defaultValue = "10") int size
 	) {
-		log.info("게시글 검색 요청: keyword={}, page={}, size={}", keyword, page, size);
-		Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-		Page<PostResponse> posts = postService.searchPosts(keyword, pageable);
+		log.info("게시글 검색 요청: keyword={}, category={}, page={}, size={}", keyword, category, page, size);
+		// 정렬은 관련도 순 고정
+		Pageable pageable = PageRequest.of(page, size);
+		Page<PostSummaryResponse> posts = postService.searchPosts(keyword, category, pageable);
 		return ResponseEntity.ok(posts);
 	}
 
 	// 자유게시판 베스트 게시글 조회
 	@GetMapping("/free/best")
-	public ResponseEntity<List<PostResponse>> getFreeBestPosts(
+	public ResponseEntity<List<PostSummaryResponse>> getFreeBestPosts(
 			@RequestParam(defaultValue = "10") int size
 	) {
 		log.info("자유게시판 베스트 게시글 조회 요청: size={}", size);
 		Pageable pageable = PageRequest.of(0, size);
-		List<PostResponse> posts = postService.getBestPostsByCategory(CommunityCategoryType.FREE, pageable);
+		List<PostSummaryResponse> posts = postService.getBestPostsByCategory(CommunityCategoryType.FREE, pageable);
 		return ResponseEntity.ok(posts);
 	}
 
 	// 리뷰 게시판 베스트 게시글 조회
 	@GetMapping("/review/best")
-	public ResponseEntity<List<PostResponse>> getReviewBestPosts(
+	public ResponseEntity<List<PostSummaryResponse>> getReviewBestPosts(
 			@RequestParam(defaultValue = "10") int size
 	) {
 		log.info("리뷰 게시판 베스트 게시글 조회 요청: size={}", size);
 		Pageable pageable = PageRequest.of(0, size);
-		List<PostResponse> posts = postService.getBestPostsByCategory(CommunityCategoryType.REVIEW, pageable);
+		List<PostSummaryResponse> posts = postService.getBestPostsByCategory(CommunityCategoryType.REVIEW, pageable);
 		return ResponseEntity.ok(posts);
 	}
 
@@ -179,8 +208,8 @@ public class PostController {
 	}
 
 	@GetMapping("/top-weekly")
-	public ResponseEntity<List<PostResponse>> getTop3WeeklyPosts() {
-		List<PostResponse> topPosts = postService.getTop3WeeklyPosts();
+	public ResponseEntity<List<PostSummaryResponse>> getTop3WeeklyPosts() {
+		List<PostSummaryResponse> topPosts = postService.getTop3WeeklyPosts();
 		return ResponseEntity.ok(topPosts);
 	}
 
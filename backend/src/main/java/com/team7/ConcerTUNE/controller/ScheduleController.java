@@ -1,10 +1,16 @@
 package com.team7.ConcerTUNE.controller;
 
 import com.team7.ConcerTUNE.dto.LiveScheduleResponseDto;
+import com.team7.ConcerTUNE.service.ScheduleFeedVersions;
 import com.team7.ConcerTUNE.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -13,7 +19,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ScheduleController {
 
+    private static final String ICS_CONTENT_TYPE = "text/calendar;charset=UTF-8";
+
     private final ScheduleService scheduleService;
+    private final ScheduleFeedVersions scheduleFeedVersions;
 
     @GetMapping("/artists/{artistId}")
     public ResponseEntity<List<LiveScheduleResponseDto>> getSchedulesByArtist(
@@ -26,6 +35,25 @@ public class ScheduleController {
         return ResponseEntity.ok(schedules);
     }
 
+    // 캘린더 앱 구독용 iCalendar 피드 (ETag 가 같으면 DB 조회 없이 304)
+    @GetMapping(value = "/personalized.ics", produces = ICS_CONTENT_TYPE)
+    public ResponseEntity<StreamingResponseBody> getPersonalizedIcs(
+            @RequestParam Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String eTag = scheduleFeedVersions.personalizedTag(userId);
+        return icsResponse(eTag, ifNoneMatch, out -> scheduleService.writePersonalizedIcs(userId, out));
+    }
+
+    @GetMapping(value = "/artists/{artistId}.ics", produces = ICS_CONTENT_TYPE)
+    public ResponseEntity<StreamingResponseBody> getArtistIcs(
+            @PathVariable Long artistId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String eTag = scheduleFeedVersions.artistTag(artistId);
+        return icsResponse(eTag, ifNoneMatch, out -> scheduleService.writeArtistIcs(artistId, out));
+    }
+
     @GetMapping("/personalized")
     public ResponseEntity<List<LiveScheduleResponseDto>> getPersonalizedSchedules(
             @RequestParam(required = true) Long userId
@@ -38,4 +66,16 @@ public class ScheduleController {
 
         return ResponseEntity.ok(schedules);
     }
+
+    private ResponseEntity<StreamingResponseBody> icsResponse(String eTag, String ifNoneMatch, StreamingResponseBody body) {
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(eTag))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.parseMediaType(ICS_CONTENT_TYPE))
+                .body(body);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.team7.ConcerTUNE.controller;
 
 import com.team7.ConcerTUNE.dto.SearchResponseDto;
+import com.team7.ConcerTUNE.dto.TrendingSearchResponse;
 import com.team7.ConcerTUNE.service.SearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -12,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/search")
 @RequiredArgsConstructor
@@ -28,4 +31,21 @@ public class SearchController {
 
         return ResponseEntity.ok(results);
     }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingSearchResponse>> getTrending(
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(searchService.getTrendingKeywords(limit));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SearchResponseDto>> suggest(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<SearchResponseDto> suggestions = searchService.suggest(prefix, limit);
+
+        return ResponseEntity.ok(suggestions);
+    }
 }
\ No newline at end of file
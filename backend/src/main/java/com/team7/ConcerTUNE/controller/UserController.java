@@ -4,6 +4,7 @@ import com.team7.ConcerTUNE.dto.*;
 import com.team7.ConcerTUNE.entity.User;
 import com.team7.ConcerTUNE.security.SimpleUserDetails;
 import com.team7.ConcerTUNE.service.FollowService;
+import com.team7.ConcerTUNE.service.InteractionStatusService;
 import com.team7.ConcerTUNE.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -25,6 +26,7 @@ import java.util.Map;
 public class UserController {
     private final UserService userService;
     private final FollowService followService;
+    private final InteractionStatusService interactionStatusService;
 
     //내 프로필 보기
     @GetMapping("/me")
@@ -34,6 +36,22 @@ public class UserController {
         return ResponseEntity.ok(userService.getMyProfile(user));
     }
 
+    // 목록 화면용 좋아요/북마크/팔로우 여부 일괄 조회 (종류별 최대 500개, 해당하는 ID만 응답)
+    // 예: /api/users/me/status?postIds=1,2,3&liveIds=10,11
+    @GetMapping("/me/status")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<InteractionStatusResponse> getMyInteractionStatus(
+            @AuthenticationPrincipal SimpleUserDetails principal,
+            @RequestParam(required = false) List<Long> postIds,
+            @RequestParam(required = false) List<Long> commentIds,
+            @RequestParam(required = false) List<Long> liveIds,
+            @RequestParam(required = false) List<Long> artistIds,
+            @RequestParam(required = false) List<Long> userIds
+    ) {
+        return ResponseEntity.ok(interactionStatusService.getStatus(
+                principal.getUserId(), postIds, commentIds, liveIds, artistIds, userIds));
+    }
+
     //유저 프로필 보기
     @GetMapping("/{userId}")
     public ResponseEntity<UserResponse> getUserProfile(@PathVariable Long userId) {
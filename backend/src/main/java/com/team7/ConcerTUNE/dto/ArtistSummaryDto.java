@@ -1,6 +1,7 @@
 package com.team7.ConcerTUNE.dto;
 
 import com.team7.ConcerTUNE.entity.Artist;
+import com.team7.ConcerTUNE.repository.projection.LiveArtistView;
 import lombok.*;
 
 @Data
@@ -22,6 +23,14 @@ public class ArtistSummaryDto {
                 .build();
     }
 
+    public static ArtistSummaryDto fromView(LiveArtistView view) {
+        return ArtistSummaryDto.builder()
+                .artistId(view.getArtistId())
+                .artistName(view.getArtistName())
+                .artistImageUrl(view.getArtistImageUrl())
+                .build();
+    }
+
     public static ArtistSummaryDto fromEntity(Artist artist, long followerCount) {
         return ArtistSummaryDto.builder()
                 .artistId(artist.getArtistId())
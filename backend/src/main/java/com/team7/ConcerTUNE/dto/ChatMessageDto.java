@@ -20,6 +20,8 @@ public class ChatMessageDto {
     private String message;
     private MessageType type;
     private LocalDateTime createdAt;
+    // 스트림 전송일 때만: 재접속 시 이어 받을 위치
+    private String streamId;
 
     public enum MessageType {
         NORMAL,
@@ -0,0 +1,20 @@
+package com.team7.ConcerTUNE.dto;
+
+import java.util.List;
+
+public class ChatReplayResponse {
+    private final List<ChatMessageDto> messages;
+    private final boolean hasMore;
+    // 요청 위치 이후 일부가 스트림에서 잘려 나갔을 수 있음 (DB 기록으로 대체)
+    private final boolean truncated;
+
+    public ChatReplayResponse(List<ChatMessageDto> messages, boolean hasMore, boolean truncated) {
+        this.messages = messages;
+        this.hasMore = hasMore;
+        this.truncated = truncated;
+    }
+
+    public List<ChatMessageDto> getMessages() { return messages; }
+    public boolean isHasMore() { return hasMore; }
+    public boolean isTruncated() { return truncated; }
+}
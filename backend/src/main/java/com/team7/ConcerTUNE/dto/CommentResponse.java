@@ -1,6 +1,7 @@
 package com.team7.ConcerTUNE.dto;
 
 import com.team7.ConcerTUNE.entity.Comment;
+import com.team7.ConcerTUNE.repository.projection.CommentView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,7 +10,6 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 // 댓글 응답 DTO
 @Data
@@ -27,15 +27,14 @@ public class CommentResponse {
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
 	private Long parentCommentId;
+	// 전체 답글 수 (replies 에는 일부만 담길 수 있음, 단건 응답에서는 null)
+	private Integer replyCount;
 	@Builder.Default
 	private List<CommentResponse> replies = new ArrayList<>();
 
+	// 단건 응답 (작성/수정/좋아요), 답글은 담지 않음
 	public static CommentResponse from(Comment comment) {
-		return CommentResponse.from(comment, true);
-	}
-
-	private static CommentResponse from(Comment comment, boolean includeReplies) {
-		CommentResponseBuilder builder = CommentResponse.builder()
+		return CommentResponse.builder()
 				.id(comment.getId())
 				.content(comment.getContent())
 				.writerId(comment.getWriter().getId())
@@ -44,16 +43,23 @@ public class CommentResponse {
 				.likeCount(comment.getLikeCount())
 				.createdAt(comment.getCreatedAt())
 				.updatedAt(comment.getUpdatedAt())
-				.parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null);
-
-		if (includeReplies) {
-			List<CommentResponse> childResponses = comment.getReplies().stream()
-					.map(child -> CommentResponse.from(child, true))
-					.collect(Collectors.toList());
-			builder.replies(childResponses);
-		}
+				.parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
+				.build();
+	}
 
-		return builder.build();
+	// 목록 응답 (답글은 서비스에서 채움)
+	public static CommentResponse fromView(CommentView view) {
+		return CommentResponse.builder()
+				.id(view.getId())
+				.content(view.getContent())
+				.writerId(view.getWriterId())
+				.writerName(view.getWriterName())
+				.postId(view.getPostId())
+				.likeCount(view.getLikeCount())
+				.createdAt(view.getCreatedAt())
+				.updatedAt(view.getUpdatedAt())
+				.parentCommentId(view.getParentCommentId())
+				.build();
 	}
 }
 
@@ -0,0 +1,21 @@
+package com.team7.ConcerTUNE.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+// 목록 화면용 일괄 상태 조회 응답 (요청한 ID 중 해당하는 ID만 담음)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InteractionStatusResponse {
+    private Set<Long> likedPostIds;
+    private Set<Long> likedCommentIds;
+    private Set<Long> bookmarkedLiveIds;
+    private Set<Long> followedArtistIds;
+    private Set<Long> followedUserIds;
+}
@@ -1,6 +1,7 @@
 package com.team7.ConcerTUNE.dto;
 
 import com.team7.ConcerTUNE.entity.*;
+import com.team7.ConcerTUNE.repository.projection.LiveDetailView;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -10,7 +11,7 @@ import java.util.Map;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class LiveResponse {
 
     private Long liveId;
@@ -77,15 +78,35 @@ public class LiveResponse {
                                 .toList()
                 )
                 .requestStatus(entity.getRequestStatus())
-                .countBookmark(0)
+                .countBookmark(entity.getBookmarkCount())
                 .build();
 
-        if (entity.getBookmarks() != null) {
-            liveResponse.setCountBookmark(entity.getBookmarks().size());
-        }
-
         return liveResponse;
     }
+
+    // 읽기 모델
+    public static LiveResponse fromView(
+            LiveDetailView view,
+            List<ArtistSummaryDto> artists,
+            List<LiveScheduleDto> schedules
+    ) {
+        return LiveResponse.builder()
+                .liveId(view.getId())
+                .title(view.getTitle())
+                .description(view.getDescription())
+                .posterUrl(view.getPosterUrl())
+                .ticketUrl(view.getTicketUrl())
+                .ticketDateTime(view.getTicketDateTime())
+                .venue(view.getVenue())
+                .price(view.getPrice())
+                .writerName(view.getWriterName())
+                .writerId(view.getWriterId())
+                .artists(artists)
+                .schedules(schedules)
+                .requestStatus(view.getRequestStatus())
+                .countBookmark(view.getBookmarkCount())
+                .build();
+    }
     
 //    // 로그인
 //    public static LiveResponse fromEntity(Live entity, User user) {
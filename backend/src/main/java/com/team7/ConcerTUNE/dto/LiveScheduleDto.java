@@ -1,6 +1,7 @@
 package com.team7.ConcerTUNE.dto;
 
 import com.team7.ConcerTUNE.entity.Schedule;
+import com.team7.ConcerTUNE.repository.projection.LiveScheduleView;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -24,6 +25,14 @@ public class LiveScheduleDto {
                 .build();
     }
 
+    public static LiveScheduleDto fromView(LiveScheduleView view) {
+        return LiveScheduleDto.builder()
+                .scheduleId(view.getScheduleId())
+                .liveDate(view.getLiveDate())
+                .liveStartTime(view.getLiveTime())
+                .build();
+    }
+
     public Schedule toNewScheduleEntity() {
         return Schedule.builder()
                 .liveDate(this.liveDate)
@@ -4,6 +4,7 @@ import com.team7.ConcerTUNE.entity.Live;
 import com.team7.ConcerTUNE.entity.LiveArtist;
 import com.team7.ConcerTUNE.entity.LiveSchedule;
 import com.team7.ConcerTUNE.entity.Schedule;
+import com.team7.ConcerTUNE.repository.projection.LiveSummaryView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,7 +16,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class LiveSummaryResponse {
 
     private Long id;
@@ -50,9 +51,7 @@ public class LiveSummaryResponse {
                                 .map(ls -> LiveScheduleDto.fromEntity(ls.getSchedule()))
                                 .toList()
                 )
-                .countBookmark(
-                        live.getBookmarks() == null ? 0 : live.getBookmarks().size()
-                )
+                .countBookmark(live.getBookmarkCount())
                 .isBookmarked(isBookmarked)
                 .build();
     }
@@ -62,6 +61,24 @@ public class LiveSummaryResponse {
         return fromEntity(live, false);
     }
 
+    // 읽기 모델 (엔티티 로딩 없이 조회한 컬럼 + 일괄 조회한 아티스트/스케줄)
+    public static LiveSummaryResponse fromView(
+            LiveSummaryView view,
+            List<ArtistSummaryDto> artists,
+            List<LiveScheduleDto> schedules
+    ) {
+        return LiveSummaryResponse.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .posterUrl(view.getPosterUrl())
+                .ticketUrl(view.getTicketUrl())
+                .ticketDateTime(view.getTicketDateTime())
+                .artists(artists)
+                .schedules(schedules)
+                .countBookmark(view.getBookmarkCount())
+                .build();
+    }
+
 //    // 로그인
 //    public static LiveSummaryResponse fromEntity(
 //            Live entity,
@@ -12,7 +12,7 @@ import java.util.List;
 
 // 게시글 응답 DTO
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostResponse {
@@ -0,0 +1,46 @@
+package com.team7.ConcerTUNE.dto;
+
+import com.team7.ConcerTUNE.entity.CommunityCategoryType;
+import com.team7.ConcerTUNE.repository.projection.PostSummaryView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 응답 DTO (본문 대신 평문 요약, 이미지 목록 대신 첫 이미지)
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryResponse {
+
+	private Long id;
+	private String title;
+	private String snippet;
+	private String thumbnailUrl;
+	private Long writerId;
+	private String writerName;
+	private CommunityCategoryType category;
+	private Integer commentCount;
+	private Integer viewCount;
+	private Integer likeCount;
+	private LocalDateTime createdAt;
+
+	public static PostSummaryResponse fromView(PostSummaryView view) {
+		return PostSummaryResponse.builder()
+				.id(view.getId())
+				.title(view.getTitle())
+				.snippet(view.getSnippet())
+				.thumbnailUrl(view.getThumbnailUrl())
+				.writerId(view.getWriterId())
+				.writerName(view.getWriterName())
+				.category(view.getCategory())
+				.commentCount(view.getCommentCount())
+				.viewCount(view.getViewCount())
+				.likeCount(view.getLikeCount())
+				.createdAt(view.getCreatedAt())
+				.build();
+	}
+}
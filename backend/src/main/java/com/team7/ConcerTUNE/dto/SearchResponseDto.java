@@ -2,6 +2,7 @@ package com.team7.ConcerTUNE.dto;
 
 import com.team7.ConcerTUNE.entity.Artist;
 import com.team7.ConcerTUNE.entity.Live;
+import com.team7.ConcerTUNE.repository.projection.SearchResultView;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -29,6 +30,17 @@ public class SearchResponseDto {
                 .build();
     }
 
+    // 통합 검색 쿼리 결과로부터 변환
+    public static SearchResponseDto fromView(SearchResultView view) {
+        return SearchResponseDto.builder()
+                .type(SearchType.valueOf(view.getType()))
+                .id(view.getId())
+                .title(view.getTitle())
+                .imageUrl(view.getImageUrl())
+                .subInfo(view.getSubInfo())
+                .build();
+    }
+
     // Artist 엔티티로부터 변환
     public static SearchResponseDto fromArtist(Artist artist) {
         return SearchResponseDto.builder()
@@ -0,0 +1,12 @@
+package com.team7.ConcerTUNE.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TrendingSearchResponse {
+    private int rank;
+    private String keyword;
+    private long count;
+}
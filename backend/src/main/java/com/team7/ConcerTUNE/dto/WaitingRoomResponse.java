@@ -0,0 +1,19 @@
+package com.team7.ConcerTUNE.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 대기열 응답 (queueToken 은 비로그인 사용자가 재요청 시 X-Queue-Token 헤더로 다시 보냄)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomResponse {
+    private Long liveId;
+    private long position;
+    private long retryAfterSeconds;
+    private String queueToken;
+    private String message;
+}
@@ -7,19 +7,20 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_messages_room_created", columnList = "room_id, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatMessage {
+    // ChatMessageWriter 가 시퀀스 블록에서 미리 할당 (발행 후 배치로 저장)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false)
@@ -41,7 +42,7 @@ public class ChatMessage {
     @Column(nullable = false)
     private ChatMessageDto.MessageType type;
 
-    @CreationTimestamp
+    // 발행 시각과 저장 값이 같도록 전송 시점에 채움
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 }
\ No newline at end of file
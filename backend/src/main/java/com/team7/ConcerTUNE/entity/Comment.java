@@ -11,7 +11,10 @@ import java.util.List;
 
 // 댓글 엔티티
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_post_parent_created", columnList = "post_id, parent_comment_id, created_at, comment_id"),
+        @Index(name = "idx_comments_parent_created", columnList = "parent_comment_id, created_at, comment_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -26,7 +29,8 @@ public class Comment extends BaseEntity {
     @Column(length = 2048)
     private String content;
 
-    @Column(name = "like_count")
+    // 좋아요 수는 원자적 UPDATE 로만 증감 (엔티티 flush 로 덮어쓰지 않음)
+    @Column(name = "like_count", updatable = false)
     @Builder.Default
     private Integer likeCount = 0;
 
@@ -55,12 +59,5 @@ public class Comment extends BaseEntity {
         this.content = content;
     }
 
-    public void increaseLikeCount() {
-        likeCount = likeCount + 1;
-    }
-
-    public void decreaseLikeCount() {
-        likeCount = Math.max(0, likeCount - 1);
-    }
 
 }
\ No newline at end of file
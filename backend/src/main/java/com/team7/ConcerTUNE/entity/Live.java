@@ -11,7 +11,10 @@ import java.util.List;
 import java.util.Map;
 
 @Entity
-@Table(name = "lives")
+@Table(name = "lives", indexes = {
+        @Index(name = "idx_lives_status_id", columnList = "request_status, live_id"),
+        @Index(name = "idx_lives_ticket_date_time", columnList = "ticket_date_time")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -68,6 +71,11 @@ public class Live extends BaseEntity {
   @OneToMany(mappedBy = "live", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<Bookmark> bookmarks;
 
+  // 북마크 수 (bookmarks 컬렉션을 로딩하지 않도록 비정규화, 원자적 UPDATE로만 변경)
+  @Builder.Default
+  @Column(name = "bookmark_count", nullable = false, updatable = false)
+  private Integer bookmarkCount = 0;
+
   @Column(name = "request_created_at", nullable = false)
   private LocalDateTime createdAt;
 
@@ -1,5 +1,6 @@
 package com.team7.ConcerTUNE.entity;
 
+import com.team7.ConcerTUNE.util.PlainTextSnippet;
 import com.team7.ConcerTUNE.util.StringListConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -12,13 +13,18 @@ import java.util.List;
 
 // 게시글 엔티티
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_category_created", columnList = "category_id, created_at, post_id"),
+        @Index(name = "idx_posts_writer_post", columnList = "post_writer_id, post_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Post extends BaseEntity {
 
+    private static final int SNIPPET_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "post_id")
@@ -34,11 +40,13 @@ public class Post extends BaseEntity {
     @Builder.Default
     private Integer commentCount = 0;
 
-    @Column(name = "view_count")
+    // 조회수는 PostViewCounter 가 원자적 UPDATE 로만 증가 (엔티티 flush 로 덮어쓰지 않음)
+    @Column(name = "view_count", updatable = false)
     @Builder.Default
     private Integer viewCount = 0;
 
-    @Column(name = "post_like_count")
+    // 좋아요 수는 원자적 UPDATE 로만 증감 (엔티티 flush 로 덮어쓰지 않음)
+    @Column(name = "post_like_count", updatable = false)
     @Builder.Default
     private Integer likeCount = 0;
 
@@ -52,6 +60,13 @@ public class Post extends BaseEntity {
     @Builder.Default
     private List<String> fileUrls = new ArrayList<>();
 
+    // 목록 조회용 요약 (본문 평문 앞부분 + 첫 이미지), 작성/수정 시 갱신
+    @Column(name = "snippet", length = 400)
+    private String snippet;
+
+    @Column(name = "thumbnail_url", columnDefinition = "TEXT")
+    private String thumbnailUrl;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_writer_id", nullable = false)
     private User writer;
@@ -78,22 +93,19 @@ public class Post extends BaseEntity {
         commentCount = Math.max(0, commentCount - 1);
     }
 
-    public void increaseViewCount() {
-        viewCount = viewCount + 1;
-    }
-
-    public void increaseLikeCount() {
-        likeCount = likeCount + 1;
-    }
-    public void decreaseLikeCount() {
-        likeCount = Math.max(0, likeCount - 1);
-    }
 
     public void update(String title, String content, List<String> imageUrls, List<String> fileUrls) {
         this.title = title;
         this.content = content;
         this.imageUrls = imageUrls != null ? new ArrayList<>(imageUrls) : new ArrayList<>();
         this.fileUrls = fileUrls != null ? new ArrayList<>(fileUrls) : new ArrayList<>();
+        refreshSummary();
+    }
+
+    @PrePersist
+    public void refreshSummary() {
+        this.snippet = PlainTextSnippet.of(content, SNIPPET_LENGTH);
+        this.thumbnailUrl = imageUrls == null || imageUrls.isEmpty() ? null : imageUrls.get(0);
     }
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "live_id")
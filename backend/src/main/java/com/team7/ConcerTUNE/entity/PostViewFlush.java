@@ -0,0 +1,24 @@
+package com.team7.ConcerTUNE.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// DB 에 반영을 마친 조회수 배치 (PostViewCounter 가 같은 배치를 두 번 더하지 않도록 기록)
+@Entity
+@Table(name = "post_view_flushes")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostViewFlush {
+    @Id
+    private String batchId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime appliedAt;
+}
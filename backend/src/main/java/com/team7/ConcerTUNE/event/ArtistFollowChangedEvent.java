@@ -0,0 +1,9 @@
+package com.team7.ConcerTUNE.event;
+
+// 유저가 아티스트를 팔로우/언팔로우했을 때 발행 (팔로우 기반 피드 갱신에 사용)
+public record ArtistFollowChangedEvent(
+        Long userId,
+        Long artistId,
+        boolean following
+) {
+}
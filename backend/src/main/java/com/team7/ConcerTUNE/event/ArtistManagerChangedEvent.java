@@ -0,0 +1,8 @@
+package com.team7.ConcerTUNE.event;
+
+// 아티스트 매니저가 새로 지정되거나 공식 여부가 바뀌었을 때 발행 (채팅 발신자 표시 갱신에 사용)
+public record ArtistManagerChangedEvent(
+        Long userId,
+        Long artistId
+) {
+}
@@ -0,0 +1,9 @@
+package com.team7.ConcerTUNE.event;
+
+// 유저가 공연을 북마크/북마크 해제했을 때 발행 (북마크 스케줄 인덱스 갱신에 사용)
+public record BookmarkChangedEvent(
+        Long userId,
+        Long liveId,
+        boolean bookmarked
+) {
+}
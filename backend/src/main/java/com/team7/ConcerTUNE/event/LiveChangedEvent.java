@@ -0,0 +1,12 @@
+package com.team7.ConcerTUNE.event;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+// 공연이 승인되거나 수정되었을 때 발행 (조회용 캐시 무효화에 사용)
+// scheduleMonths: 변경 전/후 스케줄이 걸쳐 있는 모든 연-월
+public record LiveChangedEvent(
+        Long liveId,
+        Set<YearMonth> scheduleMonths
+) {
+}
@@ -0,0 +1,7 @@
+package com.team7.ConcerTUNE.event;
+
+// 게시글이 작성/수정/삭제되었을 때 발행 (게시글 검색 색인 갱신에 사용)
+public record PostChangedEvent(
+        Long postId
+) {
+}
@@ -0,0 +1,8 @@
+package com.team7.ConcerTUNE.event;
+
+// 게시글이 새로 작성되었을 때 발행 (팔로워 타임라인 팬아웃에 사용)
+public record PostCreatedEvent(
+        Long postId,
+        Long writerId
+) {
+}
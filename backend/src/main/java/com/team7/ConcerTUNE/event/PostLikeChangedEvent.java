@@ -0,0 +1,11 @@
+package com.team7.ConcerTUNE.event;
+
+import com.team7.ConcerTUNE.entity.CommunityCategoryType;
+
+// 게시글 좋아요 수가 바뀌었을 때 발행 (베스트/주간 랭킹 갱신에 사용)
+public record PostLikeChangedEvent(
+        Long postId,
+        CommunityCategoryType category,
+        int delta
+) {
+}
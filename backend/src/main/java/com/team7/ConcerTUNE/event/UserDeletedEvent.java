@@ -0,0 +1,7 @@
+package com.team7.ConcerTUNE.event;
+
+// 유저가 탈퇴했을 때 발행 (캐시에 남은 채팅 발신자 정보 제거에 사용)
+public record UserDeletedEvent(
+        Long userId
+) {
+}
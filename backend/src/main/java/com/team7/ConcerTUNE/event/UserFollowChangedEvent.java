@@ -0,0 +1,9 @@
+package com.team7.ConcerTUNE.event;
+
+// 유저가 다른 유저를 팔로우/언팔로우했을 때 발행 (팔로잉 게시글 타임라인 갱신에 사용)
+public record UserFollowChangedEvent(
+        Long followerId,
+        Long followingId,
+        boolean following
+) {
+}
@@ -0,0 +1,7 @@
+package com.team7.ConcerTUNE.event;
+
+// 유저 닉네임이 바뀌었을 때 발행 (채팅 발신자 표시 갱신에 사용)
+public record UsernameChangedEvent(
+        Long userId
+) {
+}
@@ -0,0 +1,8 @@
+package com.team7.ConcerTUNE.exception;
+
+// 채팅 저장 큐가 가득 차 메시지를 받지 못함 (전송자에게 STOMP 에러 메시지로 알림)
+public class ChatOverloadedException extends RuntimeException {
+    public ChatOverloadedException(String roomId) {
+        super("채팅 메시지가 몰려 전송하지 못했습니다. 잠시 후 다시 시도해 주세요. (roomId=" + roomId + ")");
+    }
+}
@@ -1,7 +1,9 @@
 package com.team7.ConcerTUNE.exception;
 
+import com.team7.ConcerTUNE.dto.WaitingRoomResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -81,6 +83,21 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
 	}
 
+	// 티켓 오픈 대기열
+	@ExceptionHandler(LiveQueuedException.class)
+	public ResponseEntity<WaitingRoomResponse> handleLiveQueued(LiveQueuedException e) {
+		WaitingRoomResponse response = WaitingRoomResponse.builder()
+				.liveId(e.getLiveId())
+				.position(e.getPosition())
+				.retryAfterSeconds(e.getRetryAfterSeconds())
+				.queueToken(e.getQueueToken())
+				.message(e.getMessage())
+				.build();
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+				.body(response);
+	}
+
 	// 예상치 못한 모든 예외 처리
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ErrorResponse> handleException(
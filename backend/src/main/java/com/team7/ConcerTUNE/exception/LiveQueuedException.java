@@ -0,0 +1,20 @@
+package com.team7.ConcerTUNE.exception;
+
+import lombok.Getter;
+
+// 티켓 오픈 직전 대기열에 들어간 요청 (429 로 순번과 재시도 시간을 응답)
+@Getter
+public class LiveQueuedException extends RuntimeException {
+    private final Long liveId;
+    private final long position;
+    private final long retryAfterSeconds;
+    private final String queueToken;
+
+    public LiveQueuedException(Long liveId, long position, long retryAfterSeconds, String queueToken) {
+        super("접속자가 많아 대기 중입니다. 대기 순번: " + position);
+        this.liveId = liveId;
+        this.position = position;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.queueToken = queueToken;
+    }
+}
@@ -7,10 +7,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ArtistManagerRepository extends JpaRepository<ArtistManager, Long> {
     Optional<ArtistManager> findByIdUserIdAndIdArtistId(Long userId, Long artistId);
+    List<ArtistManager> findByIdUserIdAndIdArtistIdIn(Long userId, Collection<Long> artistIds);
     Optional<ArtistManager> findByUserAndArtist(User user, Artist artist);
     @Query("SELECT CASE WHEN COUNT(am) > 0 THEN true ELSE false END " +
             "FROM ArtistManager am " +
@@ -2,12 +2,36 @@ package com.team7.ConcerTUNE.repository;
 
 import com.team7.ConcerTUNE.entity.Artist;
 import com.team7.ConcerTUNE.entity.User;
+import com.team7.ConcerTUNE.repository.projection.SuggestionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ArtistRepository extends JpaRepository<Artist, Long> {
     Page<Artist> findByArtistNameContainingIgnoreCase(String name, Pageable pageable);
+
+    // 자동완성 색인용: 아티스트별 팔로워 수
+    @Query("""
+      select a.artistId as id, a.artistName as name, a.artistImageUrl as imageUrl, count(ua) as score
+      from Artist a
+      left join UserArtist ua on ua.artist = a
+      group by a.artistId, a.artistName, a.artistImageUrl
+      """)
+    List<SuggestionView> findAllSuggestionViews();
+
+    // 공연에 참여하는 아티스트들의 자동완성 후보
+    @Query("""
+      select a.artistId as id, a.artistName as name, a.artistImageUrl as imageUrl, count(ua) as score
+      from LiveArtist la
+      join la.artist a
+      left join UserArtist ua on ua.artist = a
+      where la.live.id = :liveId
+      group by a.artistId, a.artistName, a.artistImageUrl
+      """)
+    List<SuggestionView> findSuggestionViewsByLiveId(@Param("liveId") Long liveId);
 }
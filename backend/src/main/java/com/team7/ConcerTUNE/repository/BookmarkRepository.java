@@ -1,6 +1,8 @@
 package com.team7.ConcerTUNE.repository;
 
 import com.team7.ConcerTUNE.entity.*;
+import com.team7.ConcerTUNE.repository.projection.LiveDetailView;
+import com.team7.ConcerTUNE.repository.projection.LiveScheduleView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,26 +11,29 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     boolean existsByUserAndLive(User user, Live live);
 
-    @Query("SELECT b.live FROM Bookmark b WHERE b.user = :user")
-    Page<Live> findBookmarkedLivesByUser(@Param("user") User user, Pageable pageable);
-
     @Query("SELECT COUNT(b) FROM Bookmark b WHERE b.live.id = :liveId")
     int countByLiveId(@Param("liveId") Long liveId);
 
     void deleteByUserAndLive(User user, Live live);
 
+    // 공연을 북마크한 유저 ID
+    @Query("SELECT b.user.id FROM Bookmark b WHERE b.live.id = :liveId")
+    List<Long> findUserIdsByLiveId(@Param("liveId") Long liveId);
+
     @Query("""
-      select ls
+      select ls.live.id as liveId, s.id as scheduleId, s.liveDate as liveDate, s.liveTime as liveTime
       from Bookmark b
       join b.live l
       join l.liveSchedules ls
       join ls.schedule s
-      where b.user = :user
+      where b.user.id = :userId
         and l.requestStatus = :status
         and (
               s.liveDate > :today
@@ -36,16 +41,34 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
             )
       order by s.liveDate asc, s.liveTime asc
       """)
-    List<LiveSchedule> findNearestFutureBookmarkedSchedule(
-            @Param("user") User user,
+    List<LiveScheduleView> findNearestFutureBookmarkedScheduleViews(
+            @Param("userId") Long userId,
             @Param("status") RequestStatus status,
             @Param("today") LocalDate today,
             @Param("now") LocalTime now,
             Pageable pageable
     );
 
+    // 북마크한 공연 목록 (상세 컬럼까지, 컬렉션은 별도 IN 쿼리로)
+    @Query(value = """
+      select l.id as id, l.title as title, l.posterUrl as posterUrl, l.ticketUrl as ticketUrl,
+             l.ticketDateTime as ticketDateTime, l.bookmarkCount as bookmarkCount,
+             l.description as description, l.venue as venue, l.price as price,
+             w.id as writerId, w.username as writerName, l.requestStatus as requestStatus
+      from Bookmark b
+      join b.live l
+      join l.writer w
+      where b.user.id = :userId
+      order by l.id desc
+      """, countQuery = "select count(b) from Bookmark b where b.user.id = :userId")
+    Page<LiveDetailView> findBookmarkedLiveDetails(@Param("userId") Long userId, Pageable pageable);
+
     List<Bookmark> findByUserId(Long userId);
 
     @Query("SELECT b.live.id FROM Bookmark b WHERE b.user.id = :userId")
     List<Long> findLiveIdsByUserId(@Param("userId") Long userId);
+
+    // 목록 화면용: 주어진 공연들 중 유저가 북마크한 공연 ID만 한 번에 조회
+    @Query("SELECT b.live.id FROM Bookmark b WHERE b.user.id = :userId AND b.live.id IN :liveIds")
+    Set<Long> findBookmarkedLiveIdsIn(@Param("userId") Long userId, @Param("liveIds") Collection<Long> liveIds);
 }
@@ -3,8 +3,28 @@ package com.team7.ConcerTUNE.repository;
 import com.team7.ConcerTUNE.entity.ChatMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
     Page<ChatMessage> findByRoomId(String roomId, Pageable pageable);
+
+    // 커서 모드: (createdAt, id) 보다 이전 메시지, count 쿼리 없음
+    @Query("""
+      select m
+      from ChatMessage m
+      where m.roomId = :roomId
+        and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :id))
+      order by m.createdAt desc, m.id desc
+      """)
+    Slice<ChatMessage> findByRoomIdAfter(
+            @Param("roomId") String roomId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 }
\ No newline at end of file
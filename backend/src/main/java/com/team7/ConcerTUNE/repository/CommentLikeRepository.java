@@ -2,9 +2,14 @@ package com.team7.ConcerTUNE.repository;
 
 import com.team7.ConcerTUNE.entity.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 // 댓글 좋아요 Repository
 @Repository
@@ -15,4 +20,18 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Commen
 	boolean existsByUserIdAndCommentId(Long userId, Long commentId);
 	boolean existsByUserAndComment(User user, Comment comment);
 
+	// 목록 화면용: 주어진 댓글 중 유저가 좋아요한 댓글 ID만 한 번에 조회
+	@Query("SELECT cl.id.commentId FROM CommentLike cl WHERE cl.id.userId = :userId AND cl.id.commentId IN :commentIds")
+	Set<Long> findLikedCommentIdsIn(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
+	// 이미 있으면 아무것도 하지 않음 (반환값: 새로 추가된 행 수)
+	@Modifying
+	@Query(value = "INSERT INTO comment_likes (user_id, comment_id, created_at, updated_at) " +
+			"VALUES (:userId, :commentId, now(), now()) ON CONFLICT DO NOTHING", nativeQuery = true)
+	int insertIfAbsent(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+	@Modifying
+	@Query(value = "DELETE FROM comment_likes WHERE user_id = :userId AND comment_id = :commentId", nativeQuery = true)
+	int deleteByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
 }
@@ -1,12 +1,19 @@
 package com.team7.ConcerTUNE.repository;
 
 import com.team7.ConcerTUNE.entity.Comment;
+import com.team7.ConcerTUNE.repository.projection.CommentView;
+import com.team7.ConcerTUNE.repository.projection.ReplyCountView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,9 +25,69 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 	@Query("SELECT c FROM Comment c WHERE c.id = :commentId")
 	Optional<Comment> findByIdWithWriter(@Param("commentId") Long commentId);
 
-	@EntityGraph(attributePaths = {"writer", "post"})
-	@Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.parentComment IS NULL ORDER BY c.createdAt ASC")
-	List<Comment> findTopLevelByPostId(@Param("postId") Long postId);
+	// 트리 조립용 조회 (작성자 이름만 조인, 부모/게시글은 FK 값만 읽음)
+	String VIEW_SELECT = "SELECT c.id AS id, c.content AS content, w.id AS writerId, w.username AS writerName, " +
+			"c.post.id AS postId, c.parentComment.id AS parentCommentId, c.likeCount AS likeCount, " +
+			"c.createdAt AS createdAt, c.updatedAt AS updatedAt FROM Comment c JOIN c.writer w ";
+
+	// 게시글의 전체 댓글 (모든 깊이), 트리는 서비스에서 조립
+	@Query(VIEW_SELECT + "WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+	List<CommentView> findViewsByPostId(@Param("postId") Long postId);
+
+	@Query(VIEW_SELECT + "WHERE c.post.id = :postId AND c.parentComment IS NULL ORDER BY c.createdAt ASC, c.id ASC")
+	Slice<CommentView> findTopLevelViews(@Param("postId") Long postId, Pageable pageable);
+
+	// 커서 모드: (createdAt, id) 이후 최상위 댓글
+	@Query(VIEW_SELECT + "WHERE c.post.id = :postId AND c.parentComment IS NULL " +
+			"AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+			"ORDER BY c.createdAt ASC, c.id ASC")
+	Slice<CommentView> findTopLevelViewsAfter(
+			@Param("postId") Long postId,
+			@Param("createdAt") LocalDateTime createdAt,
+			@Param("id") Long id,
+			Pageable pageable
+	);
+
+	@Query(VIEW_SELECT + "WHERE c.parentComment.id = :parentId ORDER BY c.createdAt ASC, c.id ASC")
+	Slice<CommentView> findReplyViews(@Param("parentId") Long parentId, Pageable pageable);
+
+	@Query(VIEW_SELECT + "WHERE c.parentComment.id = :parentId " +
+			"AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+			"ORDER BY c.createdAt ASC, c.id ASC")
+	Slice<CommentView> findReplyViewsAfter(
+			@Param("parentId") Long parentId,
+			@Param("createdAt") LocalDateTime createdAt,
+			@Param("id") Long id,
+			Pageable pageable
+	);
+
+	// 부모 댓글마다 앞에서부터 limit 개의 답글 (부모 수와 무관하게 쿼리 한 번)
+	@Query(value = """
+      select r.comment_id as "id", r.content as "content", u.user_id as "writerId", u.username as "writerName",
+             r.post_id as "postId", r.parent_comment_id as "parentCommentId", r.like_count as "likeCount",
+             r.created_at as "createdAt", r.updated_at as "updatedAt"
+      from (
+        select c.*, row_number() over (partition by c.parent_comment_id order by c.created_at, c.comment_id) as rn
+        from comments c
+        where c.parent_comment_id in (:parentIds)
+      ) r
+      join users u on u.user_id = r.user_id
+      where r.rn <= :limit
+      order by r.parent_comment_id, r.created_at, r.comment_id
+      """, nativeQuery = true)
+	List<CommentView> findFirstRepliesOf(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+	@Query("SELECT c.parentComment.id AS parentId, COUNT(c) AS replyCount FROM Comment c " +
+			"WHERE c.parentComment.id IN :parentIds GROUP BY c.parentComment.id")
+	List<ReplyCountView> countRepliesByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
 
 	long countByPostId(Long postId);
+
+	@Modifying
+	@Query(value = "UPDATE comments SET like_count = like_count + 1 WHERE comment_id = :commentId", nativeQuery = true)
+	int incrementLikeCount(@Param("commentId") Long commentId);
+
+	@Modifying
+	@Query(value = "UPDATE comments SET like_count = like_count - 1 WHERE comment_id = :commentId AND like_count > 0", nativeQuery = true)
+	int decrementLikeCount(@Param("commentId") Long commentId);
 }
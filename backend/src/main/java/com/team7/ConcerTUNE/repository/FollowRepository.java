@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
@@ -23,4 +25,16 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     void deleteByFollowerAndFollowing(User follower, User following);
 
     Optional<Follow> findByFollowerAndFollowing(User follower, User following);
+
+    long countByFollowingId(Long followingId);
+
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :userId")
+    List<Long> findFollowerIdsByFollowingId(@Param("userId") Long userId);
+
+    // 후보 중 userId 가 팔로우하는 유저만
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId AND f.following.id IN :candidateIds")
+    List<Long> findFollowingIdsAmong(@Param("userId") Long userId, @Param("candidateIds") Collection<Long> candidateIds);
+
+    @Query("SELECT f.following.id FROM Follow f GROUP BY f.following.id HAVING COUNT(f) > :threshold")
+    List<Long> findUserIdsWithFollowersOver(@Param("threshold") long threshold);
 }
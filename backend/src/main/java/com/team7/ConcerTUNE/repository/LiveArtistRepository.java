@@ -3,8 +3,13 @@ package com.team7.ConcerTUNE.repository;
 import com.team7.ConcerTUNE.entity.Artist;
 import com.team7.ConcerTUNE.entity.Live;
 import com.team7.ConcerTUNE.entity.LiveArtist;
+import com.team7.ConcerTUNE.entity.RequestStatus;
+import com.team7.ConcerTUNE.repository.projection.LiveArtistView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface LiveArtistRepository extends JpaRepository<LiveArtist, Long> {
@@ -16,4 +21,24 @@ public interface LiveArtistRepository extends JpaRepository<LiveArtist, Long> {
     List<LiveArtist> findByArtist_ArtistId(Long artistId);
     List<LiveArtist> findByArtist_ArtistIdIn(List<Long> artistIds);
 
+    // 아티스트가 참여한 특정 상태의 공연 ID
+    @Query("""
+      select distinct la.live.id
+      from LiveArtist la
+      where la.artist.artistId = :artistId
+        and la.live.requestStatus = :status
+      """)
+    List<Long> findLiveIdsByArtistIdAndStatus(@Param("artistId") Long artistId, @Param("status") RequestStatus status);
+
+    // 여러 공연의 아티스트를 한 번에 조회
+    @Query("""
+      select la.live.id as liveId, a.artistId as artistId,
+             a.artistName as artistName, a.artistImageUrl as artistImageUrl
+      from LiveArtist la
+      join la.artist a
+      where la.live.id in :liveIds
+      order by la.id asc
+      """)
+    List<LiveArtistView> findArtistViewsByLiveIdIn(@Param("liveIds") Collection<Long> liveIds);
+
 }
@@ -3,10 +3,19 @@ package com.team7.ConcerTUNE.repository;
 import com.team7.ConcerTUNE.entity.Live;
 import com.team7.ConcerTUNE.entity.RequestStatus;
 import com.team7.ConcerTUNE.entity.User;
+import com.team7.ConcerTUNE.repository.projection.LiveSummaryView;
+import com.team7.ConcerTUNE.repository.projection.SearchResultView;
+import com.team7.ConcerTUNE.repository.projection.SuggestionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +26,116 @@ public interface LiveRepository extends JpaRepository<Live, Long> {
 
     Page<Live> findAllByRequestStatusIn(List<RequestStatus> statuses, Pageable pageable);
 
-    Page<Live> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+    // 공연 제목 + 아티스트 이름 통합 검색 (정확히 일치 > 앞부분 일치 > 부분 일치 순, DB 에서 페이지 단위로 자름)
+    // :pattern 은 호출 측에서 %, _ 를 이스케이프한 소문자 키워드, :keyword 는 정확히 일치 비교용 (이스케이프 전) 소문자 키워드
+    @Query(value = """
+      select r.type as "type", r.id as "id", r.title as "title", r.image_url as "imageUrl", r.sub_info as "subInfo"
+      from (
+        select 'LIVE' as type, l.live_id as id, l.title as title, l.poster_url as image_url, l.venue as sub_info,
+               case when lower(l.title) = :keyword then 0
+                    when lower(l.title) like :pattern || '%' escape '\\' then 1
+                    else 2 end as match_rank
+        from lives l
+        where lower(l.title) like '%' || :pattern || '%' escape '\\'
+        union all
+        select 'ARTIST', a.artist_id, a.artist_name, a.artist_image_url,
+               case when a.is_domestic then '국내' else '해외' end,
+               case when lower(a.artist_name) = :keyword then 0
+                    when lower(a.artist_name) like :pattern || '%' escape '\\' then 1
+                    else 2 end
+        from artists a
+        where lower(a.artist_name) like '%' || :pattern || '%' escape '\\'
+      ) r
+      order by r.match_rank asc, r.title asc, r.type desc, r.id asc
+      """, countQuery = """
+      select (select count(*) from lives l where lower(l.title) like '%' || :pattern || '%' escape '\\')
+           + (select count(*) from artists a where lower(a.artist_name) like '%' || :pattern || '%' escape '\\')
+      """, nativeQuery = true)
+    Page<SearchResultView> searchLivesAndArtists(
+            @Param("keyword") String keyword,
+            @Param("pattern") String pattern,
+            Pageable pageable
+    );
 
     Page<Live> findAllByWriter(User writer, Pageable pageable);
+
+    // 자동완성 색인용: 공연별 북마크 수
+    @Query("""
+      select l.id as id, l.title as name, l.posterUrl as imageUrl, cast(l.bookmarkCount as long) as score
+      from Live l
+      where l.requestStatus = :status
+      """)
+    List<SuggestionView> findSuggestionViewsByRequestStatus(@Param("status") RequestStatus status);
+
+    @Query("""
+      select l.id as id, l.title as name, l.posterUrl as imageUrl, cast(l.bookmarkCount as long) as score
+      from Live l
+      where l.id = :liveId and l.requestStatus = :status
+      """)
+    Optional<SuggestionView> findSuggestionViewByIdAndRequestStatus(@Param("liveId") Long liveId, @Param("status") RequestStatus status);
+
+    @Query(value = """
+      select l.id as id, l.title as title, l.posterUrl as posterUrl, l.ticketUrl as ticketUrl,
+             l.ticketDateTime as ticketDateTime, l.bookmarkCount as bookmarkCount
+      from Live l
+      where l.requestStatus = :status
+      order by l.id asc
+      """, countQuery = "select count(l) from Live l where l.requestStatus = :status")
+    Page<LiveSummaryView> findSummariesByRequestStatus(@Param("status") RequestStatus status, Pageable pageable);
+
+    // 커서 모드: count 쿼리 없이 afterId 다음부터
+    @Query("""
+      select l.id as id, l.title as title, l.posterUrl as posterUrl, l.ticketUrl as ticketUrl,
+             l.ticketDateTime as ticketDateTime, l.bookmarkCount as bookmarkCount
+      from Live l
+      where l.requestStatus = :status
+        and l.id > :afterId
+      order by l.id asc
+      """)
+    Slice<LiveSummaryView> findSummariesByRequestStatusAfter(
+            @Param("status") RequestStatus status,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("""
+      select l.id as id, l.title as title, l.posterUrl as posterUrl, l.ticketUrl as ticketUrl,
+             l.ticketDateTime as ticketDateTime, l.bookmarkCount as bookmarkCount
+      from Live l
+      where l.id in :ids
+      """)
+    List<LiveSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 티켓 오픈 시각이 구간 안에 있는 승인된 공연 (서지 모드 대상)
+    @Query("select l.id from Live l where l.requestStatus = :status and l.ticketDateTime between :from and :to")
+    List<Long> findIdsByTicketDateTimeBetween(
+            @Param("status") RequestStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // 북마크 수 원자적 증감 (엔티티를 읽고 쓰지 않아 동시 토글에도 유실 없음)
+    @Modifying
+    @Query(value = "UPDATE lives SET bookmark_count = bookmark_count + 1 WHERE live_id = :liveId", nativeQuery = true)
+    int incrementBookmarkCount(@Param("liveId") Long liveId);
+
+    @Modifying
+    @Query(value = "UPDATE lives SET bookmark_count = bookmark_count - 1 WHERE live_id = :liveId AND bookmark_count > 0", nativeQuery = true)
+    int decrementBookmarkCount(@Param("liveId") Long liveId);
+
+    // bookmarks 테이블 기준으로 어긋난 카운터만 보정
+    @Modifying
+    @Query(value = """
+      UPDATE lives l
+      SET bookmark_count = c.cnt
+      FROM (
+            SELECT l2.live_id, COUNT(b.user_id) AS cnt
+            FROM lives l2
+            LEFT JOIN bookmarks b ON b.live_id = l2.live_id
+            GROUP BY l2.live_id
+           ) c
+      WHERE l.live_id = c.live_id
+        AND l.bookmark_count <> c.cnt
+      """, nativeQuery = true)
+    int reconcileBookmarkCounts();
 }
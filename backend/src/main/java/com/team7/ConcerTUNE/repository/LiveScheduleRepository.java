@@ -4,27 +4,104 @@ import com.team7.ConcerTUNE.entity.Live;
 import com.team7.ConcerTUNE.entity.LiveArtist;
 import com.team7.ConcerTUNE.entity.LiveSchedule;
 import com.team7.ConcerTUNE.entity.RequestStatus;
-import org.springframework.data.domain.PageRequest;
+import com.team7.ConcerTUNE.repository.projection.LiveScheduleView;
+import com.team7.ConcerTUNE.repository.projection.ScheduleEventView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface LiveScheduleRepository extends JpaRepository<LiveSchedule, Long> {
     void deleteByLive(Live live);
 
-    // 오늘 이후 '승인된 공연' 스케줄들
-    List<LiveSchedule> findByLive_RequestStatusAndSchedule_LiveDateGreaterThanEqualOrderBySchedule_LiveDateAscSchedule_LiveTimeAsc(
-            RequestStatus status,
-            LocalDate from,
-            PageRequest pageRequest
+    // 타임라인 인덱스 적재용: 특정 날짜 이후 '승인된 공연' 스케줄 (schedule 함께 로딩)
+    @Query("""
+      select ls
+      from LiveSchedule ls
+      join fetch ls.schedule s
+      where ls.live.requestStatus = :status
+        and s.liveDate >= :from
+      """)
+    List<LiveSchedule> findAllWithScheduleFrom(
+            @Param("status") RequestStatus status,
+            @Param("from") LocalDate from
     );
 
-    // 기간 내 스케줄들
-    List<LiveSchedule> findByLive_RequestStatusAndSchedule_LiveDateBetweenOrderBySchedule_LiveDateAscSchedule_LiveTimeAsc(
-            RequestStatus status,
-            LocalDate startDate,
-            LocalDate endDate
+    @Query("select ls from LiveSchedule ls join fetch ls.schedule where ls.live.id = :liveId")
+    List<LiveSchedule> findAllWithScheduleByLiveId(@Param("liveId") Long liveId);
+
+    // 캘린더 피드: 팔로우한 아티스트의 공연 + 북마크한 공연의 앞으로의 스케줄 (커서로 흘려 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("""
+      select l.id as liveId, s.id as scheduleId, l.title as title, l.venue as venue,
+             l.ticketUrl as ticketUrl, s.liveDate as liveDate, s.liveTime as liveTime
+      from LiveSchedule ls
+      join ls.live l
+      join ls.schedule s
+      where l.requestStatus = :status
+        and s.liveDate >= :from
+        and (
+              l.id in (
+                select la.live.id from LiveArtist la, UserArtist ua
+                where ua.artist = la.artist and ua.user.id = :userId
+              )
+              or l.id in (select b.live.id from Bookmark b where b.user.id = :userId)
+            )
+      order by s.liveDate asc, s.liveTime asc
+      """)
+    Stream<ScheduleEventView> streamPersonalizedEvents(
+            @Param("userId") Long userId,
+            @Param("status") RequestStatus status,
+            @Param("from") LocalDate from
+    );
+
+    // 캘린더 피드: 아티스트가 참여한 공연의 전체 스케줄
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("""
+      select l.id as liveId, s.id as scheduleId, l.title as title, l.venue as venue,
+             l.ticketUrl as ticketUrl, s.liveDate as liveDate, s.liveTime as liveTime
+      from LiveSchedule ls
+      join ls.live l
+      join ls.schedule s
+      where l.requestStatus = :status
+        and l.id in (select la.live.id from LiveArtist la where la.artist.artistId = :artistId)
+      order by s.liveDate asc, s.liveTime asc
+      """)
+    Stream<ScheduleEventView> streamArtistEvents(
+            @Param("artistId") Long artistId,
+            @Param("status") RequestStatus status
+    );
+
+    // 여러 공연의 스케줄을 한 번에 조회 (시간순)
+    @Query("""
+      select ls.live.id as liveId, s.id as scheduleId, s.liveDate as liveDate, s.liveTime as liveTime
+      from LiveSchedule ls
+      join ls.schedule s
+      where ls.live.id in :liveIds
+      order by s.liveDate asc, s.liveTime asc
+      """)
+    List<LiveScheduleView> findScheduleViewsByLiveIdIn(@Param("liveIds") Collection<Long> liveIds);
+
+    // 기간 내 '승인된 공연' 스케줄 (월별 캘린더용)
+    @Query("""
+      select ls.live.id as liveId, s.id as scheduleId, s.liveDate as liveDate, s.liveTime as liveTime
+      from LiveSchedule ls
+      join ls.schedule s
+      where ls.live.requestStatus = :status
+        and s.liveDate between :startDate and :endDate
+      order by s.liveDate asc, s.liveTime asc
+      """)
+    List<LiveScheduleView> findScheduleViewsBetween(
+            @Param("status") RequestStatus status,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
     );
 }
@@ -5,9 +5,14 @@ import com.team7.ConcerTUNE.entity.PostLike;
 import com.team7.ConcerTUNE.entity.PostLikeId;
 import com.team7.ConcerTUNE.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 // 게시글 좋아요 Repository
 @Repository
@@ -21,4 +26,18 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId>
 
 	boolean existsByUserAndPost(User user, Post post);
 
+	// 목록 화면용: 주어진 게시글 중 유저가 좋아요한 게시글 ID만 한 번에 조회
+	@Query("SELECT pl.id.postId FROM PostLike pl WHERE pl.id.userId = :userId AND pl.id.postId IN :postIds")
+	Set<Long> findLikedPostIdsIn(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+	// 이미 있으면 아무것도 하지 않음 (반환값: 새로 추가된 행 수)
+	@Modifying
+	@Query(value = "INSERT INTO post_likes (user_id, post_id, created_at, updated_at) " +
+			"VALUES (:userId, :postId, now(), now()) ON CONFLICT DO NOTHING", nativeQuery = true)
+	int insertIfAbsent(@Param("userId") Long userId, @Param("postId") Long postId);
+
+	@Modifying
+	@Query(value = "DELETE FROM post_likes WHERE user_id = :userId AND post_id = :postId", nativeQuery = true)
+	int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+
 }
@@ -4,32 +4,67 @@ import com.team7.ConcerTUNE.entity.CommunityCategoryType;
 import com.team7.ConcerTUNE.entity.Post;
 import com.team7.ConcerTUNE.entity.RequestStatus;
 import com.team7.ConcerTUNE.entity.User;
+import com.team7.ConcerTUNE.repository.projection.PostIndexView;
+import com.team7.ConcerTUNE.repository.projection.PostRankView;
+import com.team7.ConcerTUNE.repository.projection.PostSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 // 게시글 Repository
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
 	Optional<Post> findTopByCategoryOrderByLikeCountDesc(CommunityCategoryType category);
 
-	@EntityGraph(attributePaths = {"writer"})
-	@Query("SELECT p FROM Post p WHERE p.category = :category ORDER BY p.createdAt DESC")
-	Page<Post> findByCategory(@Param("category") CommunityCategoryType category, Pageable pageable);
+	// 목록용 요약 조회 (본문, 이미지/파일 목록은 읽지 않음)
+	String SUMMARY_SELECT = "SELECT p.id AS id, p.title AS title, p.snippet AS snippet, p.thumbnailUrl AS thumbnailUrl, " +
+			"w.id AS writerId, w.username AS writerName, p.category AS category, p.commentCount AS commentCount, " +
+			"p.viewCount AS viewCount, p.likeCount AS likeCount, p.createdAt AS createdAt FROM Post p JOIN p.writer w ";
+
+	@Query(value = SUMMARY_SELECT + "WHERE p.category = :category ORDER BY p.createdAt DESC, p.id DESC",
+			countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category = :category")
+	Page<PostSummaryView> findSummariesByCategory(@Param("category") CommunityCategoryType category, Pageable pageable);
+
+	// 커서 모드: (createdAt, id) 이후 게시글, count 쿼리 없음
+	@Query(SUMMARY_SELECT + "WHERE p.category = :category " +
+			"AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+			"ORDER BY p.createdAt DESC, p.id DESC")
+	Slice<PostSummaryView> findSummariesByCategoryAfter(
+			@Param("category") CommunityCategoryType category,
+			@Param("createdAt") LocalDateTime createdAt,
+			@Param("id") Long id,
+			Pageable pageable
+	);
 
 	@EntityGraph(attributePaths = {"writer"})
 	@Query("SELECT p FROM Post p WHERE p.id = :postId")
 	Optional<Post> findByIdWithWriter(@Param("postId") Long postId);
 
-	Page<Post> findByLiveIdAndCategory(Long liveId, CommunityCategoryType category, Pageable pageable);
+	@Query(value = SUMMARY_SELECT + "WHERE p.live.id = :liveId AND p.category = :category ORDER BY p.createdAt DESC, p.id DESC",
+			countQuery = "SELECT COUNT(p) FROM Post p WHERE p.live.id = :liveId AND p.category = :category")
+	Page<PostSummaryView> findSummariesByLiveIdAndCategory(
+			@Param("liveId") Long liveId,
+			@Param("category") CommunityCategoryType category,
+			Pageable pageable
+	);
+
+	@Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+	List<PostSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 
 
 	@EntityGraph(attributePaths = {"writer"})
@@ -40,20 +75,48 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 			Pageable pageable
 	);
 
-	@EntityGraph(attributePaths = {"writer"})
-	@Query("SELECT p FROM Post p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword% ORDER BY p.createdAt DESC")
-	Page<Post> findByTitleContainingOrContentContaining(
-			@Param("keyword") String keyword,
-			Pageable pageable
-	);
+	// 조회수 write-behind 반영
+	@Modifying
+	@Query(value = "UPDATE posts SET view_count = view_count + :delta WHERE post_id = :postId", nativeQuery = true)
+	int incrementViewCount(@Param("postId") Long postId, @Param("delta") int delta);
 
-	@EntityGraph(attributePaths = {"writer"})
-	@Query("SELECT p FROM Post p WHERE p.category = :category ORDER BY p.likeCount DESC, p.createdAt DESC")
-	List<Post> findBestPostsByCategory(@Param("category") CommunityCategoryType category, Pageable pageable);
+	@Modifying
+	@Query(value = "UPDATE posts SET post_like_count = post_like_count + 1 WHERE post_id = :postId", nativeQuery = true)
+	int incrementLikeCount(@Param("postId") Long postId);
 
-	@EntityGraph(attributePaths = {"writer"})
-	@Query("SELECT p FROM Post p WHERE p.writer.id IN :followingIds ORDER BY p.createdAt DESC")
-	Page<Post> findByWriterIdIn(@Param("followingIds") List<Long> followingIds, Pageable pageable);
+	@Modifying
+	@Query(value = "UPDATE posts SET post_like_count = post_like_count - 1 WHERE post_id = :postId AND post_like_count > 0", nativeQuery = true)
+	int decrementLikeCount(@Param("postId") Long postId);
+
+	@Query("SELECT p.category FROM Post p WHERE p.id = :postId")
+	Optional<CommunityCategoryType> findCategoryById(@Param("postId") Long postId);
+
+	// 베스트/주간 랭킹 적재용
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT p.id AS id, p.category AS category, p.likeCount AS likeCount, p.createdAt AS createdAt FROM Post p")
+	Stream<PostRankView> streamAllForRanking();
+
+	@Query("SELECT p.id AS id, p.category AS category, p.likeCount AS likeCount, p.createdAt AS createdAt FROM Post p WHERE p.id = :postId")
+	Optional<PostRankView> findRankViewById(@Param("postId") Long postId);
+
+	// 검색 색인 전체 적재용
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT p.id AS id, p.title AS title, p.content AS content, p.category AS category FROM Post p")
+	Stream<PostIndexView> streamAllForIndex();
+
+	@Query("SELECT p.id AS id, p.title AS title, p.content AS content, p.category AS category FROM Post p WHERE p.id = :postId")
+	Optional<PostIndexView> findIndexViewById(@Param("postId") Long postId);
+
+	@Query(SUMMARY_SELECT + "WHERE p.category = :category ORDER BY p.likeCount DESC, p.createdAt DESC")
+	List<PostSummaryView> findBestSummariesByCategory(@Param("category") CommunityCategoryType category, Pageable pageable);
+
+	// 팔로잉 타임라인: userId 가 팔로우하는 작성자들의 beforeId 이전 게시글 ID (최신순)
+	@Query("SELECT p.id FROM Post p WHERE p.id < :beforeId AND p.writer.id IN " +
+			"(SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId) ORDER BY p.id DESC")
+	List<Long> findIdsOfFollowingsBefore(@Param("userId") Long userId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+	@Query("SELECT p.id FROM Post p WHERE p.writer.id IN :writerIds AND p.id < :beforeId ORDER BY p.id DESC")
+	List<Long> findIdsByWriterIdInBefore(@Param("writerIds") Collection<Long> writerIds, @Param("beforeId") Long beforeId, Pageable pageable);
 
 	@EntityGraph(attributePaths = {"writer"})
 	@Query("SELECT p FROM Post p WHERE p.writer.id = :userId ORDER BY p.createdAt DESC")
@@ -78,9 +141,9 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             @Param("category") CommunityCategoryType category
     );
 
-	@Query("SELECT p FROM Post p " +
+	@Query(SUMMARY_SELECT +
 			"WHERE p.createdAt >= :oneWeekAgo " +
 			"ORDER BY p.likeCount DESC, p.createdAt DESC")
-	List<Post> findTop3WeeklyPosts(LocalDateTime oneWeekAgo, Pageable pageable);
+	List<PostSummaryView> findWeeklyTopSummaries(@Param("oneWeekAgo") LocalDateTime oneWeekAgo, Pageable pageable);
 }
 
@@ -0,0 +1,24 @@
+package com.team7.ConcerTUNE.repository;
+
+import com.team7.ConcerTUNE.entity.PostViewFlush;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface PostViewFlushRepository extends JpaRepository<PostViewFlush, String> {
+
+    // 반영 기록 추가 (이미 반영된 배치면 0)
+    @Modifying
+    @Query(value = "INSERT INTO post_view_flushes (batch_id, applied_at) VALUES (:batchId, now()) " +
+            "ON CONFLICT (batch_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("batchId") String batchId);
+
+    @Modifying
+    @Query("delete from PostViewFlush f where f.appliedAt < :before")
+    int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,14 +1,17 @@
 package com.team7.ConcerTUNE.repository;
 
 import com.team7.ConcerTUNE.entity.*;
+import com.team7.ConcerTUNE.repository.projection.LiveScheduleView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserArtistRepository extends JpaRepository<UserArtist, UserArtistId> {
     // 유저가 특정 아티스트 팔로우했는지 확인
@@ -23,15 +26,15 @@ public interface UserArtistRepository extends JpaRepository<UserArtist, UserArti
     // 특정 아티스트의 팔로워 수 카운트
     long countByArtist(Artist artist);
 
+    // 팔로우한 아티스트들의 앞으로의 공연 스케줄 (같은 공연에 여러 아티스트를 팔로우해도 한 번만)
     @Query("""
-      select ls
+      select distinct l.id as liveId, s.id as scheduleId, s.liveDate as liveDate, s.liveTime as liveTime
       from UserArtist ua
-      join ua.artist a
-      join LiveArtist la on la.artist = a
+      join LiveArtist la on la.artist = ua.artist
       join la.live l
       join l.liveSchedules ls
       join ls.schedule s
-      where ua.user = :user
+      where ua.user.id = :userId
         and l.requestStatus = :status
         and (
               s.liveDate > :today
@@ -39,13 +42,36 @@ public interface UserArtistRepository extends JpaRepository<UserArtist, UserArti
             )
       order by s.liveDate asc, s.liveTime asc
       """)
-    List<LiveSchedule> findFutureSchedulesOfFollowedArtists(
-            @Param("user") User user,
+    List<LiveScheduleView> findFutureScheduleViewsOfFollowedArtists(
+            @Param("userId") Long userId,
             @Param("status") RequestStatus status,
             @Param("today") LocalDate today,
             @Param("now") LocalTime now
     );
 
+    // 공연에 참여하는 아티스트 중 하나라도 팔로우한 유저 ID
+    @Query("""
+      select distinct ua.user.id
+      from UserArtist ua
+      join LiveArtist la on la.artist = ua.artist
+      where la.live.id = :liveId
+      """)
+    List<Long> findFollowerIdsOfLive(@Param("liveId") Long liveId);
+
+    // 주어진 공연 중 유저가 팔로우한 아티스트가 참여하는 공연 ID
+    @Query("""
+      select distinct la.live.id
+      from UserArtist ua
+      join LiveArtist la on la.artist = ua.artist
+      where ua.user.id = :userId
+        and la.live.id in :liveIds
+      """)
+    List<Long> findFollowedLiveIdsAmong(@Param("userId") Long userId, @Param("liveIds") Collection<Long> liveIds);
+
+    // 목록 화면용: 주어진 아티스트 중 유저가 팔로우한 아티스트 ID만 한 번에 조회
+    @Query("SELECT ua.id.artistId FROM UserArtist ua WHERE ua.id.userId = :userId AND ua.id.artistId IN :artistIds")
+    Set<Long> findFollowedArtistIdsIn(@Param("userId") Long userId, @Param("artistIds") Collection<Long> artistIds);
+
     @Query("SELECT ua FROM UserArtist ua WHERE ua.user.id = :userId AND ua.artist.artistId = :artistId")
     Optional<UserArtist> findByUserIdAndArtistId(@Param("userId") Long userId, @Param("artistId") Long artistId);
 
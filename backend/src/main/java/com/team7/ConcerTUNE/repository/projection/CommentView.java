@@ -0,0 +1,16 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 댓글 트리 조립용 읽기 모델 (댓글 컬럼 + 작성자 이름, 연관 엔티티 로딩 없음)
+public interface CommentView {
+    Long getId();
+    String getContent();
+    Long getWriterId();
+    String getWriterName();
+    Long getPostId();
+    Long getParentCommentId();
+    Integer getLikeCount();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
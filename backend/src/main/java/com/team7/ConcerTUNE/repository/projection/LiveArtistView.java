@@ -0,0 +1,9 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+// 공연별 아티스트 일괄 조회용 읽기 모델
+public interface LiveArtistView {
+    Long getLiveId();
+    Long getArtistId();
+    String getArtistName();
+    String getArtistImageUrl();
+}
@@ -0,0 +1,15 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+import com.team7.ConcerTUNE.entity.RequestStatus;
+
+import java.util.Map;
+
+// 공연 상세용 읽기 모델 (요약 컬럼 + 상세/작성자 컬럼)
+public interface LiveDetailView extends LiveSummaryView {
+    String getDescription();
+    String getVenue();
+    Map<String, Integer> getPrice();
+    Long getWriterId();
+    String getWriterName();
+    RequestStatus getRequestStatus();
+}
@@ -0,0 +1,12 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 공연별 스케줄 일괄 조회용 읽기 모델
+public interface LiveScheduleView {
+    Long getLiveId();
+    Long getScheduleId();
+    LocalDate getLiveDate();
+    LocalTime getLiveTime();
+}
@@ -0,0 +1,13 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 공연 목록용 읽기 모델 (lives 테이블의 요약 컬럼만 조회)
+public interface LiveSummaryView {
+    Long getId();
+    String getTitle();
+    String getPosterUrl();
+    String getTicketUrl();
+    LocalDateTime getTicketDateTime();
+    Integer getBookmarkCount();
+}
@@ -0,0 +1,11 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+import com.team7.ConcerTUNE.entity.CommunityCategoryType;
+
+// 게시글 검색 색인 적재용 읽기 모델
+public interface PostIndexView {
+    Long getId();
+    String getTitle();
+    String getContent();
+    CommunityCategoryType getCategory();
+}
@@ -0,0 +1,13 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+import com.team7.ConcerTUNE.entity.CommunityCategoryType;
+
+import java.time.LocalDateTime;
+
+// 베스트/주간 게시글 랭킹 적재용 읽기 모델
+public interface PostRankView {
+    Long getId();
+    CommunityCategoryType getCategory();
+    Integer getLikeCount();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,20 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+import com.team7.ConcerTUNE.entity.CommunityCategoryType;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록용 읽기 모델 (본문/이미지 목록 없이 요약 컬럼 + 작성자 이름만 조회)
+public interface PostSummaryView {
+    Long getId();
+    String getTitle();
+    String getSnippet();
+    String getThumbnailUrl();
+    Long getWriterId();
+    String getWriterName();
+    CommunityCategoryType getCategory();
+    Integer getCommentCount();
+    Integer getViewCount();
+    Integer getLikeCount();
+    LocalDateTime getCreatedAt();
+}
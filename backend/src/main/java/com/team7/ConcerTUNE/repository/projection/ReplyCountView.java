@@ -0,0 +1,7 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+// 부모 댓글별 답글 수
+public interface ReplyCountView {
+    Long getParentId();
+    Long getReplyCount();
+}
@@ -0,0 +1,15 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 캘린더(iCalendar) 피드용 스케줄 한 건 = VEVENT 한 건
+public interface ScheduleEventView {
+    Long getLiveId();
+    Long getScheduleId();
+    String getTitle();
+    String getVenue();
+    String getTicketUrl();
+    LocalDate getLiveDate();
+    LocalTime getLiveTime();
+}
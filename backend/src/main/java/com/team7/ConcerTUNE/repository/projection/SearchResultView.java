@@ -0,0 +1,10 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+// 공연/아티스트 통합 검색 결과 한 행
+public interface SearchResultView {
+    String getType();
+    Long getId();
+    String getTitle();
+    String getImageUrl();
+    String getSubInfo();
+}
@@ -0,0 +1,9 @@
+package com.team7.ConcerTUNE.repository.projection;
+
+// 검색 자동완성 후보 (score: 아티스트는 팔로워 수, 공연은 북마크 수)
+public interface SuggestionView {
+    Long getId();
+    String getName();
+    String getImageUrl();
+    Long getScore();
+}
@@ -3,12 +3,14 @@ package com.team7.ConcerTUNE.service;
 import com.team7.ConcerTUNE.dto.ArtistManagerRequestCreateDto;
 import com.team7.ConcerTUNE.dto.ArtistManagerRequestStatusUpdateDto;
 import com.team7.ConcerTUNE.entity.*;
+import com.team7.ConcerTUNE.event.ArtistManagerChangedEvent;
 import com.team7.ConcerTUNE.exception.ResourceNotFoundException;
 import com.team7.ConcerTUNE.repository.ArtistManagerRepository;
 import com.team7.ConcerTUNE.repository.ArtistManagerRequestRepository;
 import com.team7.ConcerTUNE.repository.ArtistRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -26,6 +28,7 @@ public class ArtistManagerRequestService {
     private final ArtistManagerRepository artistManagerRepository;
     private final ArtistRepository artistRepository;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void submitRequest(ArtistManagerRequestCreateDto dto, Authentication authentication) {
         User user = authService.getUserFromAuth(authentication);
@@ -89,6 +92,7 @@ public class ArtistManagerRequestService {
             if (request.isOfficial()) {
                 existingManager.setOfficial(true);
                 artistManagerRepository.save(existingManager);
+                eventPublisher.publishEvent(new ArtistManagerChangedEvent(requestedUser.getId(), requestedArtist.getArtistId()));
             }
         } else {
             ArtistManagerId managerId = new ArtistManagerId(requestedUser.getId(), requestedArtist.getArtistId());
@@ -102,6 +106,7 @@ public class ArtistManagerRequestService {
                     .build();
 
             artistManagerRepository.save(newManager);
+            eventPublisher.publishEvent(new ArtistManagerChangedEvent(requestedUser.getId(), requestedArtist.getArtistId()));
         }
 
         return request;
@@ -4,6 +4,7 @@ import com.team7.ConcerTUNE.dto.ArtistDetailDto;
 import com.team7.ConcerTUNE.dto.ArtistSummaryDto;
 import com.team7.ConcerTUNE.dto.FollowStatusResponse;
 import com.team7.ConcerTUNE.entity.*;
+import com.team7.ConcerTUNE.event.ArtistFollowChangedEvent;
 import com.team7.ConcerTUNE.exception.BadRequestException;
 import com.team7.ConcerTUNE.exception.ResourceNotFoundException;
 import com.team7.ConcerTUNE.repository.ArtistRepository;
@@ -11,6 +12,7 @@ import com.team7.ConcerTUNE.repository.UserArtistRepository;
 import com.team7.ConcerTUNE.repository.UserRepository;
 import com.team7.ConcerTUNE.security.SimpleUserDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
@@ -28,6 +30,7 @@ public class ArtistService {
     private final UserArtistRepository userArtistRepository;
     private final NotificationService notificationService;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
     // 아티스트 목록 조회
     @Transactional(readOnly = true)
     public Page<ArtistSummaryDto> getArtistList(String name, Pageable pageable) {
@@ -68,6 +71,8 @@ public class ArtistService {
                 .artist(artist)
                 .build();
         userArtistRepository.save(follow);
+
+        eventPublisher.publishEvent(new ArtistFollowChangedEvent(user.getId(), artistId, true));
     }
 
     // 아티스트 언팔로우
@@ -78,6 +83,8 @@ public class ArtistService {
         UserArtist follow = userArtistRepository.findByUserAndArtist(user, artist)
                 .orElseThrow(() -> new ResourceNotFoundException("팔로우 관계를 찾을 수 없습니다"));
         userArtistRepository.delete(follow);
+
+        eventPublisher.publishEvent(new ArtistFollowChangedEvent(user.getId(), artistId, false));
     }
 
     public FollowStatusResponse getFollowStatus(Long artistId, Authentication authentication) {
@@ -0,0 +1,27 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.repository.LiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// lives.bookmark_count 를 bookmarks 테이블 기준으로 주기적으로 보정
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookmarkCountScheduler {
+
+    private final LiveRepository liveRepository;
+
+    // 매일 새벽 4시
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void reconcileBookmarkCounts() {
+        int fixed = liveRepository.reconcileBookmarkCounts();
+        if (fixed > 0) {
+            log.info("북마크 카운트 보정 완료: {}건", fixed);
+        }
+    }
+}
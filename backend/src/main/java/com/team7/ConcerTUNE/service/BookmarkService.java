@@ -1,18 +1,28 @@
 package com.team7.ConcerTUNE.service;
 
 import com.team7.ConcerTUNE.dto.LiveResponse;
+import com.team7.ConcerTUNE.dto.LiveSummaryResponse;
 import com.team7.ConcerTUNE.entity.Bookmark;
 import com.team7.ConcerTUNE.entity.Live;
 import com.team7.ConcerTUNE.entity.User;
+import com.team7.ConcerTUNE.event.BookmarkChangedEvent;
 import com.team7.ConcerTUNE.exception.ResourceNotFoundException;
 import com.team7.ConcerTUNE.repository.BookmarkRepository;
 import com.team7.ConcerTUNE.repository.LiveRepository;
+import com.team7.ConcerTUNE.repository.projection.LiveDetailView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -20,6 +30,8 @@ public class BookmarkService {
 
     private final BookmarkRepository bookmarkRepository;
     private final LiveRepository liveRepository;
+    private final LiveReadModelReader liveReadModelReader;
+    private final ApplicationEventPublisher eventPublisher;
 
     public boolean toggleBookmark(Long liveId, User user) {
         Live live = liveRepository.findById(liveId)
@@ -29,6 +41,8 @@ public class BookmarkService {
 
         if (alreadyBookmarked) {
             bookmarkRepository.deleteByUserAndLive(user, live);
+            liveRepository.decrementBookmarkCount(liveId);
+            eventPublisher.publishEvent(new BookmarkChangedEvent(user.getId(), liveId, false));
             return false;
         } else {
             Bookmark bookmark = Bookmark.builder()
@@ -36,6 +50,8 @@ public class BookmarkService {
                     .live(live)
                     .build();
             bookmarkRepository.save(bookmark);
+            liveRepository.incrementBookmarkCount(liveId);
+            eventPublisher.publishEvent(new BookmarkChangedEvent(user.getId(), liveId, true));
             return true;
         }
     }
@@ -48,10 +64,39 @@ public class BookmarkService {
         return bookmarkRepository.existsByUserAndLive(user, live);
     }
 
+    // 목록 응답들의 북마크 여부를 IN 쿼리 한 번으로 채움 (비로그인이면 모두 false)
+    @Transactional(readOnly = true)
+    public void applyBookmarkStatus(Collection<LiveSummaryResponse> responses, User user) {
+        if (responses.isEmpty()) {
+            return;
+        }
+
+        Set<Long> bookmarkedIds = getBookmarkedLiveIds(
+                responses.stream().map(LiveSummaryResponse::getId).toList(),
+                user
+        );
+
+        responses.forEach(response ->
+                response.setIsBookmarked(bookmarkedIds.contains(response.getId())));
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Long> getBookmarkedLiveIds(List<Long> liveIds, User user) {
+        if (user == null || liveIds.isEmpty()) {
+            return Set.of();
+        }
+        return bookmarkRepository.findBookmarkedLiveIdsIn(user.getId(), liveIds);
+    }
+
     @Transactional(readOnly = true)
     public Page<LiveResponse> getBookmarkedLives(Pageable pageable, User user) {
-        Page<Live> bookmarkedLives = bookmarkRepository.findBookmarkedLivesByUser(user, pageable);
+        // 정렬은 쿼리에 고정 (Bookmark 에는 정렬 기준 컬럼이 없음)
+        Pageable pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<LiveDetailView> rows = bookmarkRepository.findBookmarkedLiveDetails(user.getId(), pageRequest);
+
+        List<LiveResponse> responses = liveReadModelReader.toDetails(rows.getContent());
+        responses.forEach(response -> response.setIsBookmarked(true));
 
-        return bookmarkedLives.map(LiveResponse::fromEntity);
+        return new PageImpl<>(responses, pageRequest, rows.getTotalElements());
     }
 }
@@ -0,0 +1,240 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.dto.LiveScheduleDto;
+import com.team7.ConcerTUNE.entity.Live;
+import com.team7.ConcerTUNE.entity.RequestStatus;
+import com.team7.ConcerTUNE.event.BookmarkChangedEvent;
+import com.team7.ConcerTUNE.event.LiveChangedEvent;
+import com.team7.ConcerTUNE.repository.BookmarkRepository;
+import com.team7.ConcerTUNE.repository.LiveRepository;
+import com.team7.ConcerTUNE.repository.LiveScheduleRepository;
+import com.team7.ConcerTUNE.repository.projection.LiveScheduleView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// 유저별 북마크한 공연 스케줄의 시간순 인덱스
+// Redis ZSET 에 (공연ID:스케줄ID, 공연 시작 시각) 으로 들고 있어 "다음 공연" 을 첫 원소 조회로 처리
+// 반영에 실패해 어긋난 인덱스는 REBUILD_AFTER 가 지나면 조회 시 DB 에서 다시 적재 (Redis 장애 중에는 DB 에서 바로 조회)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookmarkedScheduleIndex {
+
+    private static final String INDEX_PREFIX = "BookmarkedSchedules:";
+    // 인덱스가 DB 에서 한 번 적재되었음을 표시 (빈 인덱스와 미적재 구분)
+    // 점수는 -(적재 시각) 이라 지난 스케줄 정리/범위 읽기에 걸리지 않음
+    private static final String LOADED_MARKER = "loaded";
+    private static final Duration REBUILD_AFTER = Duration.ofHours(1);
+    private static final Duration INDEX_TTL = Duration.ofDays(7);
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final LiveRepository liveRepository;
+    private final LiveScheduleRepository liveScheduleRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+
+    public record NearestSchedule(Long liveId, LiveScheduleDto schedule) {
+    }
+
+    // 지금 이후 가장 가까운 북마크 스케줄
+    public Optional<NearestSchedule> nearest(Long userId) {
+        try {
+            return readIndex(userId);
+        } catch (DataAccessException e) {
+            log.warn("북마크 스케줄 인덱스 조회 실패, DB 조회로 대체: userId={}", userId, e);
+            return findFutureSchedules(userId, PageRequest.of(0, 1)).stream()
+                    .findFirst()
+                    .map(schedule -> new NearestSchedule(schedule.getLiveId(), LiveScheduleDto.fromView(schedule)));
+        }
+    }
+
+    private Optional<NearestSchedule> readIndex(Long userId) {
+        String key = INDEX_PREFIX + userId;
+        ZSetOperations<String, String> zSet = stringStringRedisTemplate.opsForZSet();
+
+        long now = System.currentTimeMillis();
+        Double marker = zSet.score(key, LOADED_MARKER);
+        if (marker == null || -marker.longValue() < now - REBUILD_AFTER.toMillis()) {
+            load(userId);
+        }
+
+        // 지난 스케줄 정리 (표시자는 음수 점수라 남겨둠)
+        zSet.removeRangeByScore(key, 1, now - 1);
+        stringStringRedisTemplate.expire(key, INDEX_TTL);
+
+        Set<ZSetOperations.TypedTuple<String>> first =
+                zSet.rangeByScoreWithScores(key, now, Double.POSITIVE_INFINITY, 0, 1);
+        if (first == null || first.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ZSetOperations.TypedTuple<String> entry = first.iterator().next();
+        String[] ids = entry.getValue().split(":");
+        LocalDateTime startsAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getScore().longValue()), ZONE);
+
+        return Optional.of(new NearestSchedule(
+                Long.parseLong(ids[0]),
+                LiveScheduleDto.builder()
+                        .scheduleId(Long.parseLong(ids[1]))
+                        .liveDate(startsAt.toLocalDate())
+                        .liveStartTime(startsAt.toLocalTime())
+                        .build()
+        ));
+    }
+
+    // 인덱스를 버리고 다음 조회 때 DB 에서 다시 적재
+    // Redis 가 계속 실패하면 REBUILD_AFTER 에 맡김
+    public void invalidate(Long userId) {
+        try {
+            stringStringRedisTemplate.delete(INDEX_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.warn("북마크 스케줄 인덱스 삭제 실패: userId={}", userId, e);
+        }
+    }
+
+    // 북마크 추가/해제 시 해당 공연 스케줄만 반영
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        try {
+            applyBookmarkChange(event);
+        } catch (DataAccessException e) {
+            log.warn("북마크 스케줄 인덱스 반영 실패, 인덱스 재적재 예정: userId={}", event.userId(), e);
+            invalidate(event.userId());
+        }
+    }
+
+    private void applyBookmarkChange(BookmarkChangedEvent event) {
+        String key = INDEX_PREFIX + event.userId();
+        if (!isLoaded(key)) {
+            return;
+        }
+
+        if (!event.bookmarked()) {
+            removeLiveEntries(key, event.liveId());
+            return;
+        }
+
+        if (isApproved(event.liveId())) {
+            addEntries(key, liveScheduleRepository.findScheduleViewsByLiveIdIn(List.of(event.liveId())));
+        }
+    }
+
+    // 공연 수정(스케줄 교체)/승인 시 북마크한 유저들의 인덱스에서 해당 공연 항목 교체
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onLiveChanged(LiveChangedEvent event) {
+        Long liveId = event.liveId();
+        try {
+            applyLiveChange(liveId);
+        } catch (DataAccessException e) {
+            // 어긋난 인덱스는 REBUILD_AFTER 이후 조회 때 다시 적재됨
+            log.warn("북마크 스케줄 인덱스 반영 실패: liveId={}", liveId, e);
+        }
+    }
+
+    private void applyLiveChange(Long liveId) {
+        List<LiveScheduleView> schedules = isApproved(liveId)
+                ? liveScheduleRepository.findScheduleViewsByLiveIdIn(List.of(liveId))
+                : List.of();
+
+        for (Long userId : bookmarkRepository.findUserIdsByLiveId(liveId)) {
+            String key = INDEX_PREFIX + userId;
+            if (isLoaded(key)) {
+                removeLiveEntries(key, liveId);
+                addEntries(key, schedules);
+            }
+        }
+    }
+
+    // 최초 조회 또는 REBUILD_AFTER 경과 시 DB 에서 인덱스 전체 적재
+    private void load(Long userId) {
+        List<LiveScheduleView> schedules = findFutureSchedules(userId, Pageable.unpaged());
+
+        String key = INDEX_PREFIX + userId;
+        stringStringRedisTemplate.delete(key);
+        addEntries(key, schedules);
+        stringStringRedisTemplate.opsForZSet().add(key, LOADED_MARKER, -System.currentTimeMillis());
+        stringStringRedisTemplate.expire(key, INDEX_TTL);
+    }
+
+    private List<LiveScheduleView> findFutureSchedules(Long userId, Pageable pageable) {
+        return bookmarkRepository.findNearestFutureBookmarkedScheduleViews(
+                userId,
+                RequestStatus.APPROVED,
+                LocalDate.now(),
+                LocalTime.now(),
+                pageable
+        );
+    }
+
+    private boolean isLoaded(String key) {
+        return stringStringRedisTemplate.opsForZSet().score(key, LOADED_MARKER) != null;
+    }
+
+    private boolean isApproved(Long liveId) {
+        return liveRepository.findById(liveId)
+                .map(Live::getRequestStatus)
+                .filter(status -> status == RequestStatus.APPROVED)
+                .isPresent();
+    }
+
+    private void addEntries(String key, Collection<LiveScheduleView> schedules) {
+        long now = System.currentTimeMillis();
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (LiveScheduleView schedule : schedules) {
+            long startsAt = LocalDateTime.of(schedule.getLiveDate(), schedule.getLiveTime())
+                    .atZone(ZONE)
+                    .toInstant()
+                    .toEpochMilli();
+            if (startsAt >= now) {
+                tuples.add(ZSetOperations.TypedTuple.of(
+                        schedule.getLiveId() + ":" + schedule.getScheduleId(),
+                        (double) startsAt
+                ));
+            }
+        }
+
+        if (!tuples.isEmpty()) {
+            stringStringRedisTemplate.opsForZSet().add(key, tuples);
+        }
+    }
+
+    // 인덱스에서 해당 공연의 모든 스케줄 항목 제거
+    private void removeLiveEntries(String key, Long liveId) {
+        ZSetOperations<String, String> zSet = stringStringRedisTemplate.opsForZSet();
+        Set<String> members = zSet.range(key, 0, -1);
+        if (members == null) {
+            return;
+        }
+
+        String prefix = liveId + ":";
+        Object[] targets = members.stream()
+                .filter(member -> member.startsWith(prefix))
+                .toArray();
+        if (targets.length > 0) {
+            zSet.remove(key, targets);
+        }
+    }
+}
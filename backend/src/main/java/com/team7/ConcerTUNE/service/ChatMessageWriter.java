@@ -0,0 +1,208 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.entity.ChatMessage;
+import com.team7.ConcerTUNE.exception.ChatOverloadedException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 채팅 메시지 write-behind 저장
+// 메시지 ID 는 DB 시퀀스에서 ID_BLOCK_SIZE 개씩 받아 노드 메모리에서 나눠 주므로 저장 전에 발행 가능
+// 저장은 방 ID 해시로 나눈 샤드별 제한 큐에 넣고, 샤드마다 한 개의 작성 스레드가 JDBC 배치 insert
+// 같은 방의 메시지는 항상 같은 샤드로 가므로 발행 순서 = ID 순서 = 저장 순서
+// DB 장애 중에는 큐가 차면서 전송 측이 최대 ENQUEUE_TIMEOUT_MILLIS 동안 대기하고, 그래도 자리가 없으면 전송을 거부 (backpressure)
+// 종료 시 큐에 남은 메시지를 모두 저장한 뒤 내려감
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMessageWriter {
+
+    private static final String ID_SEQUENCE = "chat_messages_id_seq";
+    private static final int ID_BLOCK_SIZE = 100;
+    private static final int MAX_BATCH = 500;
+    private static final long POLL_MILLIS = 100;
+    // 방 단위 락을 잡은 채 기다리므로 짧게 (같은 락 줄무늬의 다른 방도 이 시간만큼 밀림)
+    private static final long ENQUEUE_TIMEOUT_MILLIS = 500;
+    // 저장 실패 시 같은 배치를 지수 백오프로 계속 재시도 (이미 발행된 메시지이므로 버리지 않음)
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+    private static final int LOCK_STRIPES = 256;
+
+    private static final String INSERT_SQL = "INSERT INTO chat_messages " +
+            "(id, room_id, sender, user_id, target_user_id, message, type, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${chat.write-behind.shards:4}")
+    private int shardCount;
+
+    @Value("${chat.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private final Object[] roomLocks = new Object[LOCK_STRIPES];
+    private Shard[] shards;
+    private volatile boolean running;
+
+    // 현재 노드가 받아 둔 ID 구간 [nextId, blockEnd)
+    private long nextId;
+    private long blockEnd;
+
+    @PostConstruct
+    public void start() {
+        // ddl-auto 와 무관하게 유지되는 시퀀스 (재기동해도 ID 가 겹치지 않음)
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + ID_SEQUENCE + " INCREMENT BY " + ID_BLOCK_SIZE);
+
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            roomLocks[i] = new Object();
+        }
+        running = true;
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+            shards[i].thread.start();
+        }
+    }
+
+    // 방 단위 락 안에서 ID 를 받고 큐 적재/발행까지 마쳐야 순서가 유지됨
+    public Object lockFor(String roomId) {
+        return roomLocks[Math.floorMod(roomId.hashCode(), LOCK_STRIPES)];
+    }
+
+    public synchronized long nextId() {
+        if (nextId == blockEnd) {
+            Long start = jdbcTemplate.queryForObject("SELECT nextval('" + ID_SEQUENCE + "')", Long.class);
+            nextId = start;
+            blockEnd = start + ID_BLOCK_SIZE;
+        }
+        return nextId++;
+    }
+
+    // 큐에 자리가 나지 않으면 ChatOverloadedException (발행 전에 호출해야 저장되지 않은 메시지가 퍼지지 않음)
+    public void enqueue(ChatMessage message) {
+        Shard shard = shardOf(message.getRoomId());
+        if (running) {
+            try {
+                if (shard.queue.offer(message, ENQUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+                log.warn("채팅 저장 큐 포화로 전송 거부: shard={}, roomId={}", shard.index, message.getRoomId());
+                throw new ChatOverloadedException(message.getRoomId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 종료 이후 들어온 메시지는 호출 스레드에서 직접 저장
+        insert(List.of(message));
+    }
+
+    // 남은 메시지를 모두 저장할 때까지 작성 스레드를 기다림
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+        for (Shard shard : shards) {
+            try {
+                shard.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (shard.thread.isAlive() || !shard.queue.isEmpty()) {
+                log.error("채팅 저장 큐를 비우지 못하고 종료: shard={}, 남은 메시지={}", shard.index, shard.queue.size());
+            }
+        }
+    }
+
+    private Shard shardOf(String roomId) {
+        return shards[Math.floorMod(roomId.hashCode(), shards.length)];
+    }
+
+    private void insert(List<ChatMessage> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, message) -> {
+            ps.setLong(1, message.getId());
+            ps.setString(2, message.getRoomId());
+            ps.setString(3, message.getSender());
+            ps.setString(4, message.getUserId());
+            ps.setString(5, message.getTargetUserId());
+            ps.setString(6, message.getMessage());
+            ps.setString(7, message.getType().name());
+            ps.setTimestamp(8, Timestamp.valueOf(message.getCreatedAt()));
+        });
+    }
+
+    private class Shard implements Runnable {
+        private final int index;
+        private final BlockingQueue<ChatMessage> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Thread thread;
+
+        Shard(int index) {
+            this.index = index;
+            this.thread = new Thread(this, "chat-writer-" + index);
+            // DB 가 끝내 돌아오지 않으면 종료 대기 시간 이후 JVM 종료를 막지 않도록
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<ChatMessage> batch = new ArrayList<>(MAX_BATCH);
+            while (running || !queue.isEmpty()) {
+                try {
+                    ChatMessage first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                    write(batch);
+                } catch (InterruptedException e) {
+                    // 종료 여부는 shutdown() 만 결정, 남은 메시지는 계속 비움
+                    log.debug("채팅 저장 스레드 인터럽트 무시: shard={}", index);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        // 성공할 때까지 같은 배치를 재시도 (다음 배치로 넘어가지 않아 순서 유지)
+        // 일부만 들어간 배치를 다시 넣어도 ON CONFLICT 로 중복 없이 이어짐
+        private void write(List<ChatMessage> batch) {
+            long backoff = POLL_MILLIS;
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    insert(batch);
+                    return;
+                } catch (DataIntegrityViolationException e) {
+                    // 재시도해도 들어갈 수 없는 행이 섞여 있음: 한 건씩 넣어 그 행만 건너뜀
+                    if (batch.size() == 1) {
+                        log.error("채팅 메시지 저장 불가, 건너뜀: shard={}, id={}", index, batch.get(0).getId(), e);
+                        return;
+                    }
+                    batch.forEach(message -> write(List.of(message)));
+                    return;
+                } catch (Exception e) {
+                    log.warn("채팅 메시지 저장 실패, {}ms 후 재시도: shard={}, attempt={}, {}건 (ID {}~{})",
+                            backoff, index, attempt, batch.size(),
+                            batch.get(0).getId(), batch.get(batch.size() - 1).getId(), e);
+                    try {
+                        Thread.sleep(backoff);
+                    } catch (InterruptedException interrupted) {
+                        log.debug("채팅 저장 재시도 대기 중 인터럽트 무시: shard={}", index);
+                    }
+                    backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.team7.ConcerTUNE.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team7.ConcerTUNE.dto.ChatMessageDto;
+import com.team7.ConcerTUNE.entity.ArtistManager;
+import com.team7.ConcerTUNE.entity.AuthRole;
+import com.team7.ConcerTUNE.entity.User;
+import com.team7.ConcerTUNE.event.ArtistManagerChangedEvent;
+import com.team7.ConcerTUNE.event.LiveChangedEvent;
+import com.team7.ConcerTUNE.event.UserDeletedEvent;
+import com.team7.ConcerTUNE.event.UsernameChangedEvent;
+import com.team7.ConcerTUNE.exception.ResourceNotFoundException;
+import com.team7.ConcerTUNE.exception.UserNotFoundException;
+import com.team7.ConcerTUNE.repository.ArtistManagerRepository;
+import com.team7.ConcerTUNE.repository.LiveArtistRepository;
+import com.team7.ConcerTUNE.repository.LiveRepository;
+import com.team7.ConcerTUNE.repository.UserRepository;
+import com.team7.ConcerTUNE.repository.projection.LiveArtistView;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 채팅방별 발신자 표시 이름 / 메시지 타입 캐시
+// 방(공연)의 아티스트 목록과 (유저 ID -> 닉네임, 타입) 을 방이 쓰이는 동안 보관해 메시지마다 DB 를 읽지 않음
+// 매니저 승인, 닉네임 변경, 탈퇴, 공연 수정은 커밋 후 pub/sub 으로 모든 노드에 알려 해당 항목만 버림
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatSenderResolver {
+
+    private static final String INVALIDATE_CHANNEL = "chat:sender:invalidate";
+    private static final String USER_PREFIX = "user:";
+    private static final String ROOM_PREFIX = "room:";
+    // 이 시간 동안 메시지가 없으면 방 캐시를 비움
+    private static final Duration ROOM_IDLE_TTL = Duration.ofHours(6);
+    private static final int MAX_SENDERS_PER_ROOM = 50_000;
+
+    private final UserRepository userRepository;
+    private final LiveRepository liveRepository;
+    private final LiveArtistRepository liveArtistRepository;
+    private final ArtistManagerRepository artistManagerRepository;
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<String, Room> rooms = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(ROOM_IDLE_TTL)
+            .build();
+
+    @PostConstruct
+    public void subscribeInvalidation() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> invalidate(new String(message.getBody())),
+                new ChannelTopic(INVALIDATE_CHANNEL)
+        );
+    }
+
+    // 캐시에 있으면 DB 조회 없음. 방이나 유저가 없으면 예외 (없는 결과는 캐시하지 않음)
+    public Sender resolve(String roomId, Long userId) {
+        Room room = rooms.get(roomId, this::loadRoom);
+        return room.senders().get(userId, id -> loadSender(room, id));
+    }
+
+    @TransactionalEventListener
+    public void onManagerChanged(ArtistManagerChangedEvent event) {
+        publish(USER_PREFIX + event.userId());
+    }
+
+    @TransactionalEventListener
+    public void onUsernameChanged(UsernameChangedEvent event) {
+        publish(USER_PREFIX + event.userId());
+    }
+
+    // 다음 메시지에서 DB 를 다시 읽어 탈퇴한 유저의 전송을 거부
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        publish(USER_PREFIX + event.userId());
+    }
+
+    // 참여 아티스트가 바뀌었을 수 있으므로 방 전체를 버림
+    @TransactionalEventListener
+    public void onLiveChanged(LiveChangedEvent event) {
+        publish(ROOM_PREFIX + event.liveId());
+    }
+
+    private void publish(String target) {
+        try {
+            stringStringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, target);
+        } catch (Exception e) {
+            log.warn("채팅 발신자 캐시 무효화 알림 실패: {}", target, e);
+            invalidate(target);
+        }
+    }
+
+    private void invalidate(String target) {
+        if (target.startsWith(ROOM_PREFIX)) {
+            rooms.invalidate(target.substring(ROOM_PREFIX.length()));
+        } else if (target.startsWith(USER_PREFIX)) {
+            Long userId = Long.valueOf(target.substring(USER_PREFIX.length()));
+            rooms.asMap().values().forEach(room -> room.senders().invalidate(userId));
+        }
+    }
+
+    private Room loadRoom(String roomId) {
+        Long liveId = Long.valueOf(roomId);
+        if (!liveRepository.existsById(liveId)) {
+            throw new ResourceNotFoundException("존재하지 않는 공연(채팅방)입니다.");
+        }
+
+        List<LiveArtistView> artists = liveArtistRepository.findArtistViewsByLiveIdIn(List.of(liveId));
+        Cache<Long, Sender> senders = Caffeine.newBuilder()
+                .maximumSize(MAX_SENDERS_PER_ROOM)
+                .build();
+        return new Room(artists, senders);
+    }
+
+    // 유저 1회 + 이 방 아티스트에 대한 매니저 여부 1회 (아티스트 수와 무관)
+    private Sender loadSender(Room room, Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("채팅 유저 정보가 존재하지 않습니다: " + userId));
+
+        if (user.getAuth() == AuthRole.ADMIN) {
+            return new Sender("운영자", ChatMessageDto.MessageType.ADMIN);
+        }
+        if (room.artists().isEmpty()) {
+            return new Sender(user.getUsername(), ChatMessageDto.MessageType.NORMAL);
+        }
+
+        Map<Long, ArtistManager> managers = artistManagerRepository
+                .findByIdUserIdAndIdArtistIdIn(userId, room.artists().stream().map(LiveArtistView::getArtistId).toList())
+                .stream()
+                .collect(Collectors.toMap(manager -> manager.getId().getArtistId(), Function.identity()));
+
+        // 공연의 아티스트 순서대로 처음 일치하는 매니저 관계를 사용
+        for (LiveArtistView artist : room.artists()) {
+            ArtistManager manager = managers.get(artist.getArtistId());
+            if (manager == null) {
+                continue;
+            }
+            if (manager.isOfficial()) {
+                return new Sender(artist.getArtistName() + " (Official)", ChatMessageDto.MessageType.ARTIST_OFFICIAL);
+            }
+            return new Sender(user.getUsername() + " (팬 매니저)", ChatMessageDto.MessageType.ARTIST_FAN_MANAGER);
+        }
+
+        return new Sender(user.getUsername(), ChatMessageDto.MessageType.NORMAL);
+    }
+
+    public record Sender(String nickname, ChatMessageDto.MessageType type) {
+    }
+
+    private record Room(List<LiveArtistView> artists, Cache<Long, Sender> senders) {
+    }
+}
@@ -2,64 +2,59 @@ package com.team7.ConcerTUNE.service;
 
 import com.team7.ConcerTUNE.dto.ChatHistoryResponse;
 import com.team7.ConcerTUNE.dto.ChatMessageDto;
-import com.team7.ConcerTUNE.entity.*;
-import com.team7.ConcerTUNE.exception.ResourceNotFoundException;
-import com.team7.ConcerTUNE.exception.UserNotFoundException;
-import com.team7.ConcerTUNE.repository.ArtistManagerRepository;
+import com.team7.ConcerTUNE.entity.ChatMessage;
 import com.team7.ConcerTUNE.repository.ChatMessageRepository;
-import com.team7.ConcerTUNE.repository.LiveRepository;
-import com.team7.ConcerTUNE.repository.UserRepository;
+import com.team7.ConcerTUNE.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class ChatService {
-    private final UserRepository userRepository;
-    private final LiveRepository livesRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final ArtistManagerRepository artistManagerRepository;
+    private final ChatSenderResolver chatSenderResolver;
+    private final ChatMessageWriter chatMessageWriter;
     private final RedisPublisher redisPublisher;
 
-    @Transactional
+    // 저장을 기다리지 않고 미리 할당한 ID 로 바로 발행, DB 저장은 ChatMessageWriter 가 배치로 처리
     public ChatMessageDto sendMessage(ChatMessageDto messageDto) {
 
-        User sender = userRepository.findById(Long.valueOf(messageDto.getUserId()))
-                .orElseThrow(() -> new UserNotFoundException("메시지 발신자 정보가 존재하지 않습니다."));
+        // 발신자 표시/타입과 방·대상 유저 존재 여부는 방 단위 캐시에서 확인 (캐시 적중 시 DB 조회 없음)
+        ChatSenderResolver.Sender sender = chatSenderResolver.resolve(
+                messageDto.getRoomId(), Long.valueOf(messageDto.getUserId()));
 
         if (messageDto.getTargetUserId() != null) {
-            userRepository.findById(Long.valueOf(messageDto.getTargetUserId()))
-                    .orElseThrow(() -> new UserNotFoundException("태그 대상 유저 정보가 존재하지 않습니다."));
+            chatSenderResolver.resolve(messageDto.getRoomId(), Long.valueOf(messageDto.getTargetUserId()));
         }
 
-        Live live = livesRepository.findById(Long.valueOf(messageDto.getRoomId()))
-                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 공연(채팅방)입니다."));
-
-        MessageInfo messageInfo = determineMessageInfo(sender, live, messageDto);
-
-        ChatMessage chatMessage = ChatMessage.builder()
-                .roomId(messageDto.getRoomId())
-                .userId(messageDto.getUserId())
-                .sender(messageInfo.getNickname())
-                .targetUserId(messageDto.getTargetUserId())
-                .message(messageDto.getMessage())
-                .type(messageInfo.getType())
-                .build();
-
-        ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
-        ChatMessageDto savedDto = convertToDto(savedMessage);
-
-        redisPublisher.publish(savedDto);
-
-        return savedDto;
+        // 같은 방 안에서는 ID 할당 -> 저장 큐 적재 -> 발행 순서가 섞이지 않도록 방 단위 락
+        // 큐가 가득 차면 발행 전에 ChatOverloadedException 으로 거부 (락은 큐 대기 시간까지만 잡힘)
+        synchronized (chatMessageWriter.lockFor(messageDto.getRoomId())) {
+            ChatMessage chatMessage = ChatMessage.builder()
+                    .id(chatMessageWriter.nextId())
+                    .roomId(messageDto.getRoomId())
+                    .userId(messageDto.getUserId())
+                    .sender(sender.nickname())
+                    .targetUserId(messageDto.getTargetUserId())
+                    .message(messageDto.getMessage())
+                    .type(sender.type())
+                    .createdAt(LocalDateTime.now())
+                    .build();
+
+            ChatMessageDto savedDto = convertToDto(chatMessage);
+
+            chatMessageWriter.enqueue(chatMessage);
+            redisPublisher.publish(savedDto);
+
+            return savedDto;
+        }
     }
 
     public ChatHistoryResponse getHistory(String roomId, int page, int size) {
@@ -74,6 +69,18 @@ public class ChatService {
         );
     }
 
+    // 커서 모드: 마지막으로 받은 메시지 이전 기록 (count 쿼리 없음)
+    public ChatHistoryResponse getHistoryAfter(String roomId, KeysetCursor after, int size) {
+
+        Slice<ChatMessage> chatSlice = chatMessageRepository.findByRoomIdAfter(
+                roomId, after.createdAt(), after.id(), PageRequest.of(0, size));
+
+        return new ChatHistoryResponse(
+                chatSlice.getContent(),
+                chatSlice.hasNext()
+        );
+    }
+
     private ChatMessageDto convertToDto(ChatMessage entity) {
         return ChatMessageDto.builder()
                 .id(entity.getId())
@@ -86,52 +93,4 @@ public class ChatService {
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
-
-    private MessageInfo determineMessageInfo(User sender, Live live, ChatMessageDto messageDto) {
-
-        if (sender.getAuth() == AuthRole.ADMIN) {
-            return new MessageInfo("운영자", ChatMessageDto.MessageType.ADMIN);
-        }
-
-        List<Artist> artists = live.getLiveArtists().stream()
-                .map(LiveArtist::getArtist)
-                .toList();
-
-        for (Artist artist : artists) {
-            Optional<ArtistManager> managerOpt = artistManagerRepository
-                    .findByIdUserIdAndIdArtistId(sender.getId(), artist.getArtistId());
-
-            if (managerOpt.isPresent()) {
-                ArtistManager manager = managerOpt.get();
-
-                // 1. 공식 관리자 (isOfficial=true)인 경우
-                if (manager.isOfficial()) {
-                    String nickname = artist.getArtistName() + " (Official)";
-                    return new MessageInfo(nickname, ChatMessageDto.MessageType.ARTIST_OFFICIAL);
-                }
-
-                // 2. 비공식 관리자 (isOfficial=false)인 경우
-                else {
-                    String nickname = sender.getUsername() + " (팬 매니저)";
-                    return new MessageInfo(nickname, ChatMessageDto.MessageType.ARTIST_FAN_MANAGER);
-                }
-            }
-        }
-
-        return new MessageInfo(sender.getUsername(), ChatMessageDto.MessageType.NORMAL);
-    }
-
-    private static class MessageInfo {
-        private final String nickname;
-        private final ChatMessageDto.MessageType type;
-
-        public MessageInfo(String nickname, ChatMessageDto.MessageType type) {
-            this.nickname = nickname;
-            this.type = type;
-        }
-
-        public String getNickname() { return nickname; }
-        public ChatMessageDto.MessageType getType() { return type; }
-    }
-
-}
\ No newline at end of file
+}
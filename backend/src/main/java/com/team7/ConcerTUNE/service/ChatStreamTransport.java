@@ -0,0 +1,219 @@
+package com.team7.ConcerTUNE.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team7.ConcerTUNE.dto.ChatMessageDto;
+import com.team7.ConcerTUNE.dto.ChatReplayResponse;
+import com.team7.ConcerTUNE.exception.BadRequestException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Redis Streams 기반 채팅 전송 (chat.transport=stream 일 때 pub/sub 대신 사용)
+// 방마다 최근 STREAM_CAPACITY 개만 남기는 스트림(chat:stream:{roomId})에 XADD
+// 노드는 구독 중인 방의 마지막 읽은 엔트리 ID 를 들고 한 스레드에서 XREAD 로 이어 읽음
+// Redis 연결이 잠깐 끊겨도 같은 위치부터 다시 읽으므로 유실 없음 (스트림 용량 안에서)
+// 방을 새로 구독하면 CATCH_UP 만큼 이전부터 읽어 늦게 붙은 구독 사이의 메시지도 전달 (클라이언트는 id 로 중복 제거)
+// 재접속한 클라이언트는 마지막으로 받은 streamId 이후를 스트림에서 바로 받아감 (DB 조회 없음)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatStreamTransport {
+
+    private static final String STREAM_PREFIX = "chat:stream:";
+    private static final String PAYLOAD_FIELD = "payload";
+    private static final long STREAM_CAPACITY = 1_000;
+    private static final Duration CATCH_UP = Duration.ofSeconds(30);
+    private static final Duration READ_BLOCK = Duration.ofSeconds(1);
+    private static final int READ_COUNT = 200;
+    private static final long RETRY_MILLIS = 1_000;
+    public static final int MAX_REPLAY = 200;
+
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    @Value("${chat.transport:pubsub}")
+    private String transport;
+
+    // 구독 중인 방 -> 이 노드가 마지막으로 읽은 스트림 엔트리 ID
+    private final Map<String, String> positions = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread reader;
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        running = true;
+        reader = new Thread(this::readLoop, "chat-stream-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (reader != null) {
+            reader.interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return "stream".equalsIgnoreCase(transport);
+    }
+
+    public void publish(ChatMessageDto message) {
+        try {
+            MapRecord<String, String, String> record = StreamRecords.newRecord()
+                    .in(STREAM_PREFIX + message.getRoomId())
+                    .ofMap(Map.of(PAYLOAD_FIELD, objectMapper.writeValueAsString(message)));
+            stringStringRedisTemplate.opsForStream()
+                    .add(record, XAddOptions.maxlen(STREAM_CAPACITY).approximateTrimming(true));
+        } catch (Exception e) {
+            log.error("Error publishing message to Redis stream", e);
+        }
+    }
+
+    public void subscribe(String roomId) {
+        long from = System.currentTimeMillis() - CATCH_UP.toMillis();
+        positions.putIfAbsent(roomId, from + "-0");
+    }
+
+    public void unsubscribe(String roomId) {
+        positions.remove(roomId);
+    }
+
+    // afterStreamId 이후 메시지 (오래된 순, 최대 size 개)
+    // 요청 위치가 이미 잘려 나갔거나 스트림이 없으면 truncated = true (클라이언트는 DB 기록 조회로 대체)
+    public ChatReplayResponse replay(String roomId, String afterStreamId, int size) {
+        if (!isEnabled()) {
+            return new ChatReplayResponse(List.of(), false, true);
+        }
+        String key = STREAM_PREFIX + roomId;
+        int limit = Math.min(Math.max(size, 1), MAX_REPLAY);
+        RecordId after = parseStreamId(afterStreamId);
+
+        List<MapRecord<String, Object, Object>> oldest = stringStringRedisTemplate.opsForStream()
+                .range(key, Range.unbounded(), Limit.limit().count(1));
+        // 스트림이 비었거나 없으면 (Redis 초기화 등) 요청 위치 이후를 보장할 수 없음
+        boolean truncated = oldest == null || oldest.isEmpty() || isAfter(oldest.get(0).getId(), after);
+
+        List<MapRecord<String, Object, Object>> records = stringStringRedisTemplate.opsForStream()
+                .range(key, Range.of(Range.Bound.exclusive(after.getValue()), Range.Bound.unbounded()),
+                        Limit.limit().count(limit + 1));
+        List<ChatMessageDto> messages = new ArrayList<>();
+        if (records != null) {
+            records.stream().limit(limit).forEach(record -> {
+                ChatMessageDto message = toMessage(record);
+                if (message != null) {
+                    messages.add(message);
+                }
+            });
+        }
+        return new ChatReplayResponse(messages, records != null && records.size() > limit, truncated);
+    }
+
+    private void readLoop() {
+        while (running) {
+            if (positions.isEmpty()) {
+                sleep(READ_BLOCK.toMillis());
+                continue;
+            }
+            try {
+                readOnce();
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                // 위치는 그대로 두고 재시도 (끊긴 동안의 메시지는 다음 읽기에서 받음)
+                log.warn("채팅 스트림 읽기 실패, 재시도", e);
+                sleep(RETRY_MILLIS);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readOnce() {
+        StreamOffset<String>[] offsets = positions.entrySet().stream()
+                .map(entry -> StreamOffset.create(STREAM_PREFIX + entry.getKey(), ReadOffset.from(entry.getValue())))
+                .toArray(StreamOffset[]::new);
+
+        List<MapRecord<String, Object, Object>> records = stringStringRedisTemplate.opsForStream()
+                .read(StreamReadOptions.empty().block(READ_BLOCK).count(READ_COUNT), offsets);
+        if (records == null) {
+            return;
+        }
+
+        for (MapRecord<String, Object, Object> record : records) {
+            String roomId = record.getStream().substring(STREAM_PREFIX.length());
+            // 읽는 사이 구독이 끝난 방은 위치를 되살리지 않음
+            if (positions.replace(roomId, record.getId().getValue()) == null) {
+                continue;
+            }
+            ChatMessageDto message = toMessage(record);
+            if (message != null) {
+                messagingTemplate.convertAndSend("/topic/chat/room/" + roomId, message);
+            }
+        }
+    }
+
+    private ChatMessageDto toMessage(MapRecord<String, Object, Object> record) {
+        try {
+            ChatMessageDto message = objectMapper.readValue((String) record.getValue().get(PAYLOAD_FIELD), ChatMessageDto.class);
+            message.setStreamId(record.getId().getValue());
+            return message;
+        } catch (Exception e) {
+            log.error("Error processing stream record: {}", record.getId(), e);
+            return null;
+        }
+    }
+
+    private RecordId parseStreamId(String value) {
+        try {
+            RecordId id = RecordId.of(value);
+            if (!id.isAutoGenerated()) {
+                return id;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("streamId 형식이 올바르지 않습니다: " + value, e);
+        }
+        throw new BadRequestException("streamId 형식이 올바르지 않습니다: " + value);
+    }
+
+    private boolean isAfter(RecordId a, RecordId b) {
+        if (a.getTimestamp() != b.getTimestamp()) {
+            return a.getTimestamp() > b.getTimestamp();
+        }
+        return a.getSequence() > b.getSequence();
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -4,7 +4,6 @@ import com.team7.ConcerTUNE.dto.CommentCreateRequest;
 import com.team7.ConcerTUNE.dto.CommentUpdateRequest;
 import com.team7.ConcerTUNE.dto.CommentResponse;
 import com.team7.ConcerTUNE.entity.Comment;
-import com.team7.ConcerTUNE.entity.CommentLike;
 import com.team7.ConcerTUNE.entity.Post;
 import com.team7.ConcerTUNE.entity.User;
 import com.team7.ConcerTUNE.exception.CommentNotFoundException;
@@ -14,11 +13,23 @@ import com.team7.ConcerTUNE.repository.CommentLikeRepository;
 import com.team7.ConcerTUNE.repository.CommentRepository;
 import com.team7.ConcerTUNE.repository.PostRepository;
 import com.team7.ConcerTUNE.repository.UserRepository;
+import com.team7.ConcerTUNE.repository.projection.CommentView;
+import com.team7.ConcerTUNE.repository.projection.ReplyCountView;
+import com.team7.ConcerTUNE.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -94,63 +105,140 @@ public class CommentService {
 		log.info("댓글 삭제 완료: commentId={}", commentId);
 	}
 
-	// 게시글의 댓글 조회
+	// 게시글의 댓글 전체 조회 (모든 깊이를 한 번에 읽어 메모리에서 트리로 조립)
 	@Transactional(readOnly = true)
 	public List<CommentResponse> getCommentsByPostId(Long postId) {
 		log.info("댓글 조회: postId={}", postId);
 		if (!postRepository.existsById(postId)) {
 			throw new PostNotFoundException(postId);
 		}
-		List<Comment> topLevelComments = commentRepository.findTopLevelByPostId(postId);
-		return topLevelComments.stream()
-				.map(CommentResponse::from)
-				.collect(Collectors.toList());
+
+		Map<Long, CommentResponse> byId = new LinkedHashMap<>();
+		commentRepository.findViewsByPostId(postId)
+				.forEach(view -> byId.put(view.getId(), CommentResponse.fromView(view)));
+
+		// 작성 순으로 정렬되어 있으므로 부모에 붙이면 답글 순서도 유지됨
+		List<CommentResponse> topLevelComments = new ArrayList<>();
+		for (CommentResponse comment : byId.values()) {
+			if (comment.getParentCommentId() == null) {
+				topLevelComments.add(comment);
+			} else {
+				CommentResponse parent = byId.get(comment.getParentCommentId());
+				if (parent != null) {
+					parent.getReplies().add(comment);
+				}
+			}
+		}
+		byId.values().forEach(comment -> comment.setReplyCount(comment.getReplies().size()));
+		return topLevelComments;
 	}
 
-	// 댓글 좋아요
+	// 최상위 댓글 커서 페이지 + 각 댓글의 첫 replyLimit 개 답글
+	// 쿼리는 최상위 댓글, 답글(부모별 윈도 조회), 답글 수 집계 세 번으로 고정
+	@Transactional(readOnly = true)
+	public Slice<CommentResponse> getCommentPage(Long postId, KeysetCursor after, int size, int replyLimit) {
+		log.info("댓글 페이지 조회: postId={}, after={}, size={}, replies={}", postId, after, size, replyLimit);
+		if (!postRepository.existsById(postId)) {
+			throw new PostNotFoundException(postId);
+		}
+
+		Pageable pageable = PageRequest.of(0, size);
+		Slice<CommentView> topLevel = after == null
+				? commentRepository.findTopLevelViews(postId, pageable)
+				: commentRepository.findTopLevelViewsAfter(postId, after.createdAt(), after.id(), pageable);
+
+		List<CommentResponse> comments = topLevel.getContent().stream()
+				.map(CommentResponse::fromView)
+				.toList();
+		if (comments.isEmpty()) {
+			return new SliceImpl<>(comments, pageable, false);
+		}
+
+		List<CommentResponse> loaded = new ArrayList<>(comments);
+		if (replyLimit > 0) {
+			Map<Long, CommentResponse> parents = comments.stream()
+					.collect(Collectors.toMap(CommentResponse::getId, Function.identity()));
+			for (CommentView view : commentRepository.findFirstRepliesOf(parents.keySet(), replyLimit)) {
+				CommentResponse reply = CommentResponse.fromView(view);
+				parents.get(reply.getParentCommentId()).getReplies().add(reply);
+				loaded.add(reply);
+			}
+		}
+		fillReplyCounts(loaded);
+		return new SliceImpl<>(comments, pageable, topLevel.hasNext());
+	}
+
+	// 특정 댓글의 답글 커서 페이지
+	@Transactional(readOnly = true)
+	public Slice<CommentResponse> getReplies(Long commentId, KeysetCursor after, int size) {
+		log.info("답글 조회: commentId={}, after={}, size={}", commentId, after, size);
+		if (!commentRepository.existsById(commentId)) {
+			throw new CommentNotFoundException(commentId);
+		}
+
+		Pageable pageable = PageRequest.of(0, size);
+		Slice<CommentView> replies = after == null
+				? commentRepository.findReplyViews(commentId, pageable)
+				: commentRepository.findReplyViewsAfter(commentId, after.createdAt(), after.id(), pageable);
+
+		List<CommentResponse> content = replies.getContent().stream()
+				.map(CommentResponse::fromView)
+				.toList();
+		if (!content.isEmpty()) {
+			fillReplyCounts(content);
+		}
+		return new SliceImpl<>(content, pageable, replies.hasNext());
+	}
+
+	// 답글 수를 IN 집계 한 번으로 채움 (답글이 없는 댓글은 0)
+	private void fillReplyCounts(List<CommentResponse> comments) {
+		Map<Long, CommentResponse> byId = new HashMap<>();
+		for (CommentResponse comment : comments) {
+			comment.setReplyCount(0);
+			byId.put(comment.getId(), comment);
+		}
+		for (ReplyCountView count : commentRepository.countRepliesByParentIdIn(byId.keySet())) {
+			byId.get(count.getParentId()).setReplyCount(count.getReplyCount().intValue());
+		}
+	}
+
+	// 댓글 좋아요 (좋아요 행 추가와 카운트 증가 모두 단일 SQL)
 	public CommentResponse likeComment(Long commentId, Long userId) {
 		log.info("댓글 좋아요: commentId={}, userId={}", commentId, userId);
-		Comment comment = commentRepository.findByIdWithWriter(commentId)
-				.orElseThrow(() -> new CommentNotFoundException(commentId));
-		if (commentLikeRepository.existsByUserIdAndCommentId(userId, commentId)) {
+		if (!commentRepository.existsById(commentId)) {
+			throw new CommentNotFoundException(commentId);
+		}
+		if (commentLikeRepository.insertIfAbsent(userId, commentId) == 0) {
 			throw new IllegalArgumentException("이미 좋아요를 누른 댓글입니다.");
 		}
-		User user = userRepository.findById(userId)
-				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
-		CommentLike commentLike = CommentLike.builder()
-				.user(user)
-				.comment(comment)
-				.build();
-		commentLike.setEmbeddedId();
-		commentLikeRepository.save(commentLike);
-		comment.increaseLikeCount();
-		commentRepository.save(comment);
+		commentRepository.incrementLikeCount(commentId);
 		log.info("댓글 좋아요 완료: commentId={}, userId={}", commentId, userId);
-		return CommentResponse.from(comment);
+		return CommentResponse.from(findCommentWithWriter(commentId));
 	}
 
 	// 댓글 좋아요 취소
 	public CommentResponse dislikeComment(Long commentId, Long userId) {
 		log.info("댓글 좋아요 취소: commentId={}, userId={}", commentId, userId);
-		Comment comment = commentRepository.findByIdWithWriter(commentId)
-				.orElseThrow(() -> new CommentNotFoundException(commentId));
-		CommentLike commentLike = commentLikeRepository.findByUserIdAndCommentId(userId, commentId)
-				.orElseThrow(() -> new IllegalArgumentException("좋아요를 누르지 않은 댓글입니다."));
-		commentLikeRepository.delete(commentLike);
-		comment.decreaseLikeCount();
-		commentRepository.save(comment);
+		if (!commentRepository.existsById(commentId)) {
+			throw new CommentNotFoundException(commentId);
+		}
+		if (commentLikeRepository.deleteByUserIdAndCommentId(userId, commentId) == 0) {
+			throw new IllegalArgumentException("좋아요를 누르지 않은 댓글입니다.");
+		}
+		commentRepository.decrementLikeCount(commentId);
 		log.info("댓글 좋아요 취소 완료: commentId={}, userId={}", commentId, userId);
-		return CommentResponse.from(comment);
+		return CommentResponse.from(findCommentWithWriter(commentId));
+	}
+
+	// 카운트 UPDATE 이후에 읽어야 최신 값이 보임 (영속성 컨텍스트에 올라오기 전)
+	private Comment findCommentWithWriter(Long commentId) {
+		return commentRepository.findByIdWithWriter(commentId)
+				.orElseThrow(() -> new CommentNotFoundException(commentId));
 	}
 
 	@Transactional(readOnly = true)
 	public boolean isCommentLiked(Long commentId, Long userId) {
-		User user = userRepository.findById(userId)
-				.orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-
-		Comment comment = commentRepository.findById(commentId)
-				.orElseThrow(() -> new IllegalArgumentException("Comment not found with id: " + commentId));
-
-		return commentLikeRepository.existsByUserAndComment(user, comment);
+		// 여러 건은 InteractionStatusService 로 일괄 조회
+		return commentLikeRepository.existsByUserIdAndCommentId(userId, commentId);
 	}
 }
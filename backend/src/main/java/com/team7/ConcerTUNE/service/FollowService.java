@@ -3,10 +3,12 @@ package com.team7.ConcerTUNE.service;
 import com.team7.ConcerTUNE.dto.UserFollowResponse;
 import com.team7.ConcerTUNE.entity.Follow;
 import com.team7.ConcerTUNE.entity.User;
+import com.team7.ConcerTUNE.event.UserFollowChangedEvent;
 import com.team7.ConcerTUNE.repository.FollowRepository;
 import com.team7.ConcerTUNE.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 팔로우 / 언팔로우 토글
@@ -43,6 +46,7 @@ public class FollowService {
             target.getFollowers().remove(existing);
 
             followRepository.delete(existing);
+            eventPublisher.publishEvent(new UserFollowChangedEvent(follower.getId(), target.getId(), false));
             log.info("언팔로우 성공: {} -> {}", follower.getId(), target.getId());
         } else {
             // 🔥 팔로우 생성 및 양방향 관계 추가
@@ -55,6 +59,7 @@ public class FollowService {
             target.getFollowers().add(follow);
 
             followRepository.save(follow);
+            eventPublisher.publishEvent(new UserFollowChangedEvent(follower.getId(), target.getId(), true));
             log.info("팔로우 성공: {} -> {}", follower.getId(), target.getId());
         }
     }
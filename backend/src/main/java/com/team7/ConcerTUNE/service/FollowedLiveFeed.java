@@ -0,0 +1,307 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.dto.LiveScheduleDto;
+import com.team7.ConcerTUNE.entity.Live;
+import com.team7.ConcerTUNE.entity.RequestStatus;
+import com.team7.ConcerTUNE.event.ArtistFollowChangedEvent;
+import com.team7.ConcerTUNE.event.LiveChangedEvent;
+import com.team7.ConcerTUNE.repository.LiveArtistRepository;
+import com.team7.ConcerTUNE.repository.LiveRepository;
+import com.team7.ConcerTUNE.repository.LiveScheduleRepository;
+import com.team7.ConcerTUNE.repository.UserArtistRepository;
+import com.team7.ConcerTUNE.repository.projection.LiveScheduleView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 유저별 "팔로우한 아티스트의 다가오는 공연" 피드
+// Redis ZSET 에 (공연ID:스케줄ID, 공연 시작 시각) 으로 미리 쌓아두고 조회 시 범위 읽기만 수행
+// 공연 승인/수정 시 팔로워들에게 펼치고, 팔로우/언팔로우 시 해당 아티스트 공연만 반영
+// 반영에 실패해 어긋난 피드는 REBUILD_AFTER 가 지나면 조회 시 DB 에서 다시 적재 (Redis 장애 중에는 DB 에서 바로 조회)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FollowedLiveFeed {
+
+    private static final String FEED_PREFIX = "FollowedLiveFeed:";
+    // 공연 -> 이 공연이 들어가 있는 피드의 유저 ID (수정 시 옛 항목 제거용)
+    private static final String HOLDERS_PREFIX = "FollowedLiveFeedHolders:";
+    // 피드가 DB 에서 한 번 적재되었음을 표시 (빈 피드와 미적재 구분)
+    // 점수는 -(적재 시각) 이라 지난 스케줄 정리/범위 읽기에 걸리지 않음
+    private static final String LOADED_MARKER = "loaded";
+    private static final Duration REBUILD_AFTER = Duration.ofHours(1);
+    private static final Duration FEED_TTL = Duration.ofDays(7);
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final LiveRepository liveRepository;
+    private final LiveArtistRepository liveArtistRepository;
+    private final LiveScheduleRepository liveScheduleRepository;
+    private final UserArtistRepository userArtistRepository;
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+
+    // 앞으로의 스케줄을 공연별로 묶어 반환 (가장 가까운 스케줄을 가진 공연 순)
+    public Map<Long, List<LiveScheduleDto>> upcomingSchedulesOf(Long userId) {
+        try {
+            return readFeed(userId);
+        } catch (DataAccessException e) {
+            log.warn("팔로우 피드 조회 실패, DB 조회로 대체: userId={}", userId, e);
+            Map<Long, List<LiveScheduleDto>> grouped = new LinkedHashMap<>();
+            for (LiveScheduleView schedule : findFutureSchedules(userId)) {
+                grouped.computeIfAbsent(schedule.getLiveId(), id -> new ArrayList<>())
+                        .add(LiveScheduleDto.fromView(schedule));
+            }
+            return grouped;
+        }
+    }
+
+    private Map<Long, List<LiveScheduleDto>> readFeed(Long userId) {
+        String key = FEED_PREFIX + userId;
+        ZSetOperations<String, String> zSet = stringStringRedisTemplate.opsForZSet();
+
+        long now = System.currentTimeMillis();
+        Double marker = zSet.score(key, LOADED_MARKER);
+        if (marker == null || -marker.longValue() < now - REBUILD_AFTER.toMillis()) {
+            load(userId);
+        }
+
+        // 지난 스케줄 정리 (표시자는 음수 점수라 남겨둠)
+        zSet.removeRangeByScore(key, 1, now - 1);
+        stringStringRedisTemplate.expire(key, FEED_TTL);
+
+        Set<ZSetOperations.TypedTuple<String>> entries = zSet.rangeByScoreWithScores(key, now, Double.POSITIVE_INFINITY);
+
+        Map<Long, List<LiveScheduleDto>> grouped = new LinkedHashMap<>();
+        if (entries == null) {
+            return grouped;
+        }
+        // 피드가 살아 있는 동안 그 안의 공연 역인덱스도 만료되지 않도록 함께 연장 (수정 시 이 유저를 놓치지 않게)
+        refreshHolders(entries);
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            String[] ids = entry.getValue().split(":");
+            LocalDateTime startsAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getScore().longValue()), ZONE);
+
+            grouped.computeIfAbsent(Long.parseLong(ids[0]), id -> new ArrayList<>())
+                    .add(LiveScheduleDto.builder()
+                            .scheduleId(Long.parseLong(ids[1]))
+                            .liveDate(startsAt.toLocalDate())
+                            .liveStartTime(startsAt.toLocalTime())
+                            .build());
+        }
+        return grouped;
+    }
+
+    // 공연 승인/수정: 기존 항목을 걷어내고 현재 아티스트의 팔로워들에게 다시 펼침
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onLiveChanged(LiveChangedEvent event) {
+        Long liveId = event.liveId();
+        try {
+            applyLiveChange(liveId);
+        } catch (DataAccessException e) {
+            // 어긋난 피드는 REBUILD_AFTER 이후 조회 때 다시 적재됨
+            log.warn("팔로우 피드 반영 실패: liveId={}", liveId, e);
+        }
+    }
+
+    private void applyLiveChange(Long liveId) {
+        String holdersKey = HOLDERS_PREFIX + liveId;
+
+        Set<String> holders = stringStringRedisTemplate.opsForSet().members(holdersKey);
+        if (holders != null) {
+            for (String userId : holders) {
+                removeLiveEntries(FEED_PREFIX + userId, liveId);
+            }
+        }
+        stringStringRedisTemplate.delete(holdersKey);
+
+        boolean approved = liveRepository.findById(liveId)
+                .map(Live::getRequestStatus)
+                .filter(status -> status == RequestStatus.APPROVED)
+                .isPresent();
+        if (!approved) {
+            return;
+        }
+
+        List<LiveScheduleView> schedules = futureOnly(liveScheduleRepository.findScheduleViewsByLiveIdIn(List.of(liveId)));
+        if (schedules.isEmpty()) {
+            return;
+        }
+
+        List<Long> followerIds = userArtistRepository.findFollowerIdsOfLive(liveId);
+        for (Long userId : followerIds) {
+            // 아직 적재되지 않은 피드는 첫 조회 때 DB 에서 통째로 적재되므로 건너뜀
+            if (isLoaded(userId)) {
+                addEntries(userId, schedules);
+            }
+        }
+        log.debug("팔로우 피드 반영: liveId={}, 팔로워={}명", liveId, followerIds.size());
+    }
+
+    // 팔로우: 해당 아티스트의 공연 추가 / 언팔로우: 다른 팔로우 아티스트로도 걸리지 않는 공연만 제거
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onFollowChanged(ArtistFollowChangedEvent event) {
+        Long userId = event.userId();
+        try {
+            applyFollowChange(userId, event.artistId(), event.following());
+        } catch (DataAccessException e) {
+            log.warn("팔로우 피드 반영 실패, 피드 재적재 예정: userId={}", userId, e);
+            invalidate(userId);
+        }
+    }
+
+    private void applyFollowChange(Long userId, Long artistId, boolean following) {
+        if (!isLoaded(userId)) {
+            return;
+        }
+
+        List<Long> liveIds = liveArtistRepository.findLiveIdsByArtistIdAndStatus(artistId, RequestStatus.APPROVED);
+        if (liveIds.isEmpty()) {
+            return;
+        }
+
+        if (following) {
+            addEntries(userId, futureOnly(liveScheduleRepository.findScheduleViewsByLiveIdIn(liveIds)));
+            return;
+        }
+
+        Set<Long> stillFollowed = new HashSet<>(userArtistRepository.findFollowedLiveIdsAmong(userId, liveIds));
+        for (Long liveId : liveIds) {
+            if (!stillFollowed.contains(liveId)) {
+                removeLiveEntries(FEED_PREFIX + userId, liveId);
+                stringStringRedisTemplate.opsForSet().remove(HOLDERS_PREFIX + liveId, userId.toString());
+            }
+        }
+    }
+
+    // 피드를 지워 다음 조회 때 DB 에서 다시 적재 (Redis 가 계속 실패하면 REBUILD_AFTER 에 맡김)
+    private void invalidate(Long userId) {
+        try {
+            stringStringRedisTemplate.delete(FEED_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.warn("팔로우 피드 삭제 실패: userId={}", userId, e);
+        }
+    }
+
+    // 최초 조회 또는 REBUILD_AFTER 경과 시 DB 에서 피드 전체 적재
+    private void load(Long userId) {
+        List<LiveScheduleView> schedules = findFutureSchedules(userId);
+
+        String key = FEED_PREFIX + userId;
+        stringStringRedisTemplate.delete(key);
+        addEntries(userId, schedules);
+        stringStringRedisTemplate.opsForZSet().add(key, LOADED_MARKER, -System.currentTimeMillis());
+        stringStringRedisTemplate.expire(key, FEED_TTL);
+    }
+
+    private List<LiveScheduleView> findFutureSchedules(Long userId) {
+        return userArtistRepository.findFutureScheduleViewsOfFollowedArtists(
+                userId,
+                RequestStatus.APPROVED,
+                LocalDate.now(),
+                LocalTime.now()
+        );
+    }
+
+    private boolean isLoaded(Long userId) {
+        return stringStringRedisTemplate.opsForZSet().score(FEED_PREFIX + userId, LOADED_MARKER) != null;
+    }
+
+    private void addEntries(Long userId, Collection<LiveScheduleView> schedules) {
+        if (schedules.isEmpty()) {
+            return;
+        }
+
+        String key = FEED_PREFIX + userId;
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        Set<Long> liveIds = new HashSet<>();
+        for (LiveScheduleView schedule : schedules) {
+            tuples.add(ZSetOperations.TypedTuple.of(
+                    schedule.getLiveId() + ":" + schedule.getScheduleId(),
+                    (double) startsAtMillis(schedule)
+            ));
+            liveIds.add(schedule.getLiveId());
+        }
+        stringStringRedisTemplate.opsForZSet().add(key, tuples);
+
+        for (Long liveId : liveIds) {
+            String holdersKey = HOLDERS_PREFIX + liveId;
+            stringStringRedisTemplate.opsForSet().add(holdersKey, userId.toString());
+            stringStringRedisTemplate.expire(holdersKey, FEED_TTL);
+        }
+    }
+
+    private void refreshHolders(Set<ZSetOperations.TypedTuple<String>> entries) {
+        Set<String> holdersKeys = new HashSet<>();
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            holdersKeys.add(HOLDERS_PREFIX + entry.getValue().split(":")[0]);
+        }
+        if (holdersKeys.isEmpty()) {
+            return;
+        }
+        stringStringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                for (String holdersKey : holdersKeys) {
+                    redis.expire(holdersKey, FEED_TTL);
+                }
+                return null;
+            }
+        });
+    }
+
+    // 피드에서 해당 공연의 모든 스케줄 항목 제거
+    private void removeLiveEntries(String key, Long liveId) {
+        ZSetOperations<String, String> zSet = stringStringRedisTemplate.opsForZSet();
+        Set<String> members = zSet.range(key, 0, -1);
+        if (members == null) {
+            return;
+        }
+
+        String prefix = liveId + ":";
+        Object[] targets = members.stream()
+                .filter(member -> member.startsWith(prefix))
+                .toArray();
+        if (targets.length > 0) {
+            zSet.remove(key, targets);
+        }
+    }
+
+    private List<LiveScheduleView> futureOnly(List<LiveScheduleView> schedules) {
+        long now = System.currentTimeMillis();
+        return schedules.stream()
+                .filter(schedule -> startsAtMillis(schedule) >= now)
+                .toList();
+    }
+
+    private long startsAtMillis(LiveScheduleView schedule) {
+        return LocalDateTime.of(schedule.getLiveDate(), schedule.getLiveTime())
+                .atZone(ZONE)
+                .toInstant()
+                .toEpochMilli();
+    }
+}
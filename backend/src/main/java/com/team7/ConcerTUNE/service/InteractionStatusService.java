@@ -0,0 +1,62 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.dto.InteractionStatusResponse;
+import com.team7.ConcerTUNE.exception.BadRequestException;
+import com.team7.ConcerTUNE.repository.BookmarkRepository;
+import com.team7.ConcerTUNE.repository.CommentLikeRepository;
+import com.team7.ConcerTUNE.repository.FollowRepository;
+import com.team7.ConcerTUNE.repository.PostLikeRepository;
+import com.team7.ConcerTUNE.repository.UserArtistRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+// 목록 화면의 좋아요/북마크/팔로우 여부를 한 번에 조회
+// 항목마다 상태 API 를 부르지 않도록, 종류별로 IN 쿼리 한 번씩만 수행 (빈 목록은 쿼리 생략)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InteractionStatusService {
+
+    public static final int MAX_IDS_PER_TYPE = 500;
+
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final UserArtistRepository userArtistRepository;
+    private final FollowRepository followRepository;
+
+    public InteractionStatusResponse getStatus(
+            Long userId,
+            List<Long> postIds,
+            List<Long> commentIds,
+            List<Long> liveIds,
+            List<Long> artistIds,
+            List<Long> userIds
+    ) {
+        return InteractionStatusResponse.builder()
+                .likedPostIds(lookup(postIds, "postIds", ids -> postLikeRepository.findLikedPostIdsIn(userId, ids)))
+                .likedCommentIds(lookup(commentIds, "commentIds", ids -> commentLikeRepository.findLikedCommentIdsIn(userId, ids)))
+                .bookmarkedLiveIds(lookup(liveIds, "liveIds", ids -> bookmarkRepository.findBookmarkedLiveIdsIn(userId, ids)))
+                .followedArtistIds(lookup(artistIds, "artistIds", ids -> userArtistRepository.findFollowedArtistIdsIn(userId, ids)))
+                .followedUserIds(lookup(userIds, "userIds", ids -> new HashSet<>(followRepository.findFollowingIdsAmong(userId, ids))))
+                .build();
+    }
+
+    private Set<Long> lookup(List<Long> ids, String name, Function<Collection<Long>, Set<Long>> query) {
+        if (ids == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> distinct = new HashSet<>(ids);
+        if (distinct.size() > MAX_IDS_PER_TYPE) {
+            throw new BadRequestException(name + " 는 최대 " + MAX_IDS_PER_TYPE + "개까지 조회할 수 있습니다.");
+        }
+        return query.apply(distinct);
+    }
+}
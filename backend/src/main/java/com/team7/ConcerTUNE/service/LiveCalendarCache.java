@@ -0,0 +1,106 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.dto.LiveSummaryResponse;
+import com.team7.ConcerTUNE.event.LiveChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 월별 공연 캘린더(/api/lives/schedules)의 유저 무관 부분 캐시
+// 공연 승인/수정 이벤트로 해당 월만 무효화하고, 북마크 여부는 호출 측에서 덧씌움
+// 무효화는 pub/sub 으로 모든 노드에 전달 (발행 실패 시 이 노드만이라도 무효화)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveCalendarCache {
+
+    private static final String INVALIDATION_CHANNEL = "live:calendar:invalidate";
+
+    // 북마크 수처럼 이벤트로 잡지 않는 값의 최대 지연 시간
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final int MAX_CACHED_MONTHS = 36;
+
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Map<YearMonth, CachedMonth> months = new ConcurrentHashMap<>();
+
+    // 로딩 도중 무효화가 일어나면 오래된 결과를 저장하지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    // 메시지 형식: "2025-01,2025-02"
+    @PostConstruct
+    public void subscribeInvalidation() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> evict(Arrays.stream(new String(message.getBody()).split(","))
+                        .filter(month -> !month.isBlank())
+                        .map(YearMonth::parse)
+                        .toList()),
+                new ChannelTopic(INVALIDATION_CHANNEL)
+        );
+    }
+
+    public List<LiveSummaryResponse> get(YearMonth yearMonth, Supplier<List<LiveSummaryResponse>> loader) {
+        CachedMonth cached = months.get(yearMonth);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return copyOf(cached.lives());
+        }
+
+        long loadedGeneration = generation.get();
+        List<LiveSummaryResponse> lives = List.copyOf(loader.get());
+
+        if (generation.get() == loadedGeneration) {
+            if (months.size() >= MAX_CACHED_MONTHS) {
+                months.clear();
+            }
+            months.put(yearMonth, new CachedMonth(lives, Instant.now().plus(TTL)));
+        }
+
+        return copyOf(lives);
+    }
+
+    public void evict(Iterable<YearMonth> yearMonths) {
+        generation.incrementAndGet();
+        yearMonths.forEach(months::remove);
+    }
+
+    @TransactionalEventListener
+    public void onLiveChanged(LiveChangedEvent event) {
+        log.debug("공연 캘린더 캐시 무효화: liveId={}, months={}", event.liveId(), event.scheduleMonths());
+        String payload = event.scheduleMonths().stream()
+                .map(YearMonth::toString)
+                .collect(Collectors.joining(","));
+        try {
+            stringStringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("공연 캘린더 캐시 무효화 알림 실패: liveId={}", event.liveId(), e);
+            evict(event.scheduleMonths());
+        }
+    }
+
+    // 캐시된 객체는 여러 유저가 공유하므로 북마크 여부를 덮어쓰기 전에 복사
+    private List<LiveSummaryResponse> copyOf(List<LiveSummaryResponse> lives) {
+        return lives.stream()
+                .map(live -> live.toBuilder().build())
+                .toList();
+    }
+
+    private record CachedMonth(List<LiveSummaryResponse> lives, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,155 @@
+package com.team7.ConcerTUNE.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team7.ConcerTUNE.dto.LiveResponse;
+import com.team7.ConcerTUNE.event.LiveChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 공연 상세(유저 무관 부분) 2단 캐시
+// L1: 노드 로컬 Caffeine, L2: Redis
+// 공연이 승인/수정되면 L2 를 지우고 pub/sub 으로 모든 노드의 L1 을 무효화
+// 티켓 오픈 서지 구간의 공연은 고정(pin)해 TTL 없이 노드 메모리에 유지 (무효화되면 다음 조회 때 다시 채움)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveDetailCache {
+
+    private static final String KEY_PREFIX = "LiveDetail:";
+    private static final String INVALIDATION_CHANNEL = "live:invalidate";
+
+    // 북마크 수는 이벤트로 무효화하지 않으므로 최대 L2 TTL 만큼 늦게 반영됨
+    private static final Duration L1_TTL = Duration.ofSeconds(30);
+    private static final Duration L2_TTL = Duration.ofMinutes(5);
+
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, LiveResponse> localCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(L1_TTL)
+            .build();
+
+    // 고정 대상 공연 ID 와 그 값 (값은 무효화 시 지워지고 다음 로딩 때 다시 채워짐)
+    private final Set<Long> pinnedIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, LiveResponse> pinned = new ConcurrentHashMap<>();
+
+    // 로딩 도중 무효화가 일어나면 커밋 전에 읽은 결과를 L1/L2 에 쓰지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    public void subscribeInvalidation() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> {
+                    Long liveId = Long.valueOf(new String(message.getBody()));
+                    generation.incrementAndGet();
+                    pinned.remove(liveId);
+                    localCache.invalidate(liveId);
+                },
+                new ChannelTopic(INVALIDATION_CHANNEL)
+        );
+    }
+
+    // 반환값은 매번 복사본 (호출 측에서 북마크 여부를 덮어써도 캐시가 오염되지 않음)
+    public LiveResponse get(Long liveId, Supplier<LiveResponse> loader) {
+        LiveResponse cached = localOf(liveId);
+        if (cached == null) {
+            long loadedGeneration = generation.get();
+            cached = readRemote(liveId);
+            if (cached == null) {
+                cached = loader.get();
+                if (generation.get() == loadedGeneration) {
+                    writeRemote(liveId, cached);
+                }
+            }
+            if (generation.get() == loadedGeneration) {
+                localCache.put(liveId, cached);
+                if (pinnedIds.contains(liveId)) {
+                    pinned.put(liveId, cached);
+                }
+            }
+        }
+        return cached.toBuilder().build();
+    }
+
+    // 노드 로컬에 이미 올라와 있을 때만 반환 (없으면 null)
+    public LiveResponse peek(Long liveId) {
+        LiveResponse cached = localOf(liveId);
+        return cached == null ? null : cached.toBuilder().build();
+    }
+
+    // 이후 로딩되는 값은 unpin 전까지 만료되지 않음
+    public void pin(Long liveId) {
+        pinnedIds.add(liveId);
+    }
+
+    public void unpin(Long liveId) {
+        pinnedIds.remove(liveId);
+        pinned.remove(liveId);
+    }
+
+    public void evict(Long liveId) {
+        generation.incrementAndGet();
+        pinned.remove(liveId);
+        localCache.invalidate(liveId);
+        try {
+            stringStringRedisTemplate.delete(KEY_PREFIX + liveId);
+            stringStringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(liveId));
+        } catch (Exception e) {
+            log.error("공연 상세 캐시 무효화 실패: liveId={}", liveId, e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLiveChanged(LiveChangedEvent event) {
+        evict(event.liveId());
+    }
+
+    private LiveResponse localOf(Long liveId) {
+        LiveResponse cached = pinned.get(liveId);
+        return cached != null ? cached : localCache.getIfPresent(liveId);
+    }
+
+    // Redis 장애 시에는 캐시 없이 DB 로 동작
+    private LiveResponse readRemote(Long liveId) {
+        try {
+            String json = stringStringRedisTemplate.opsForValue().get(KEY_PREFIX + liveId);
+            return json == null ? null : objectMapper.readValue(json, LiveResponse.class);
+        } catch (Exception e) {
+            log.warn("공연 상세 L2 캐시 조회 실패: liveId={}", liveId, e);
+            return null;
+        }
+    }
+
+    // 비어 있을 때만 씀 (무효화 이후 먼저 채워진 값을 늦게 끝난 로딩이 덮어쓰지 않도록)
+    private void writeRemote(Long liveId, LiveResponse response) {
+        try {
+            stringStringRedisTemplate.opsForValue().setIfAbsent(
+                    KEY_PREFIX + liveId,
+                    objectMapper.writeValueAsString(response),
+                    L2_TTL
+            );
+        } catch (JsonProcessingException e) {
+            log.error("공연 상세 직렬화 실패: liveId={}", liveId, e);
+        } catch (Exception e) {
+            log.warn("공연 상세 L2 캐시 저장 실패: liveId={}", liveId, e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.dto.ArtistSummaryDto;
+import com.team7.ConcerTUNE.dto.LiveResponse;
+import com.team7.ConcerTUNE.dto.LiveScheduleDto;
+import com.team7.ConcerTUNE.dto.LiveSummaryResponse;
+import com.team7.ConcerTUNE.repository.LiveArtistRepository;
+import com.team7.ConcerTUNE.repository.LiveRepository;
+import com.team7.ConcerTUNE.repository.LiveScheduleRepository;
+import com.team7.ConcerTUNE.repository.projection.LiveArtistView;
+import com.team7.ConcerTUNE.repository.projection.LiveDetailView;
+import com.team7.ConcerTUNE.repository.projection.LiveScheduleView;
+import com.team7.ConcerTUNE.repository.projection.LiveSummaryView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 공연 목록 응답 조립기
+// 엔티티(와 lazy 컬렉션)를 로딩하지 않고, 요약 행 / 아티스트 / 스케줄을 각각 IN 쿼리 한 번씩으로 읽어 조립
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LiveReadModelReader {
+
+    private final LiveRepository liveRepository;
+    private final LiveArtistRepository liveArtistRepository;
+    private final LiveScheduleRepository liveScheduleRepository;
+
+    // 이미 조회한 요약 행들에 아티스트/스케줄을 붙임 (쿼리 2회)
+    public List<LiveSummaryResponse> toSummaries(List<? extends LiveSummaryView> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> liveIds = rows.stream().map(LiveSummaryView::getId).toList();
+        Map<Long, List<ArtistSummaryDto>> artists = artistsOf(liveIds);
+        Map<Long, List<LiveScheduleDto>> schedules = schedulesOf(liveIds);
+
+        return rows.stream()
+                .map(row -> LiveSummaryResponse.fromView(
+                        row,
+                        artists.getOrDefault(row.getId(), List.of()),
+                        schedules.getOrDefault(row.getId(), List.of())
+                ))
+                .toList();
+    }
+
+    // 주어진 ID 순서대로 요약 응답 조립 (쿼리 3회)
+    public List<LiveSummaryResponse> findSummariesByIds(List<Long> liveIds) {
+        Map<Long, LiveSummaryView> rows = summaryRowsOf(liveIds);
+
+        return toSummaries(liveIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    public List<LiveResponse> toDetails(List<LiveDetailView> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> liveIds = rows.stream().map(LiveDetailView::getId).toList();
+        Map<Long, List<ArtistSummaryDto>> artists = artistsOf(liveIds);
+        Map<Long, List<LiveScheduleDto>> schedules = schedulesOf(liveIds);
+
+        return rows.stream()
+                .map(row -> LiveResponse.fromView(
+                        row,
+                        artists.getOrDefault(row.getId(), List.of()),
+                        schedules.getOrDefault(row.getId(), List.of())
+                ))
+                .toList();
+    }
+
+    public Map<Long, LiveSummaryView> summaryRowsOf(Collection<Long> liveIds) {
+        if (liveIds.isEmpty()) {
+            return Map.of();
+        }
+        return liveRepository.findSummariesByIdIn(liveIds).stream()
+                .collect(Collectors.toMap(LiveSummaryView::getId, Function.identity()));
+    }
+
+    public Map<Long, List<ArtistSummaryDto>> artistsOf(Collection<Long> liveIds) {
+        if (liveIds.isEmpty()) {
+            return Map.of();
+        }
+        return liveArtistRepository.findArtistViewsByLiveIdIn(liveIds).stream()
+                .collect(Collectors.groupingBy(
+                        LiveArtistView::getLiveId,
+                        Collectors.mapping(ArtistSummaryDto::fromView, Collectors.toList())
+                ));
+    }
+
+    public Map<Long, List<LiveScheduleDto>> schedulesOf(Collection<Long> liveIds) {
+        if (liveIds.isEmpty()) {
+            return Map.of();
+        }
+        return liveScheduleRepository.findScheduleViewsByLiveIdIn(liveIds).stream()
+                .collect(Collectors.groupingBy(
+                        LiveScheduleView::getLiveId,
+                        Collectors.mapping(LiveScheduleDto::fromView, Collectors.toList())
+                ));
+    }
+}
@@ -5,19 +5,25 @@ import com.team7.ConcerTUNE.dto.LiveRequestResponse;
 import com.team7.ConcerTUNE.dto.LiveResponse;
 import com.team7.ConcerTUNE.dto.NewArtistRequest;
 import com.team7.ConcerTUNE.entity.*;
+import com.team7.ConcerTUNE.event.LiveChangedEvent;
 import com.team7.ConcerTUNE.exception.BadRequestException;
 import com.team7.ConcerTUNE.exception.ResourceNotFoundException;
 import com.team7.ConcerTUNE.repository.*;
 import com.team7.ConcerTUNE.security.SimpleUserDetails;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +36,7 @@ public class LiveRequestService {
     private final LiveArtistRepository liveArtistRepository;
     private final LiveScheduleRepository liveScheduleRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 요청 등록
     public LiveResponse createRequest(LiveRequest request, User user) {
@@ -129,12 +136,17 @@ public class LiveRequestService {
         }
 
         live.changeStatus(RequestStatus.APPROVED);
+
+        eventPublisher.publishEvent(new LiveChangedEvent(live.getId(), scheduleMonthsOf(live)));
     }
 
     public LiveResponse modifyLive(Long targetLiveId, LiveRequest liveRequest) {
         Live targetLive = liveRepository.findById(targetLiveId)
                 .orElseThrow(() -> new ResourceNotFoundException("공연을 찾을 수 없습니다. ID: " + targetLiveId));
 
+        // 스케줄 교체 전 월도 무효화 대상에 포함
+        Set<YearMonth> affectedMonths = new HashSet<>(scheduleMonthsOf(targetLive));
+
         targetLive.setTitle(liveRequest.getTitle());
         targetLive.setDescription(liveRequest.getDescription());
         targetLive.setPosterUrl(liveRequest.getPosterUrl());
@@ -203,12 +215,21 @@ public class LiveRequestService {
             targetLive.getLiveSchedules().addAll(liveSchedules);
         }
 
+        affectedMonths.addAll(scheduleMonthsOf(targetLive));
+        eventPublisher.publishEvent(new LiveChangedEvent(targetLive.getId(), affectedMonths));
+
         return LiveResponse.fromEntity(targetLive);
     }
 
 
 
     // 편의 메서드
+    private Set<YearMonth> scheduleMonthsOf(Live live) {
+        return live.getLiveSchedules().stream()
+                .map(ls -> YearMonth.from(ls.getSchedule().getLiveDate()))
+                .collect(Collectors.toSet());
+    }
+
     private User getAdminFromAuth(org.springframework.security.core.Authentication authentication) {
         if (authentication == null || !(authentication.getPrincipal() instanceof SimpleUserDetails userDetails)) {
             throw new BadRequestException("유효한 로그인 정보가 없습니다. (Auth is null or not SimpleUserDetails)");
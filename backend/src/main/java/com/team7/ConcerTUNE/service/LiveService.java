@@ -4,56 +4,71 @@ import com.team7.ConcerTUNE.dto.*;
 import com.team7.ConcerTUNE.entity.*;
 import com.team7.ConcerTUNE.exception.ResourceNotFoundException;
 import com.team7.ConcerTUNE.repository.*;
+import com.team7.ConcerTUNE.repository.projection.LiveScheduleView;
+import com.team7.ConcerTUNE.repository.projection.LiveSummaryView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.YearMonth;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class LiveService {
     private final LiveRepository liveRepository;
-    private final BookmarkRepository bookmarkRepository;
     private final LiveArtistRepository liveArtistRepository;
     private final LiveScheduleRepository liveScheduleRepository;
     private final BookmarkService bookmarkService;
     private final UserRepository userRepository;
-    private final UserArtistRepository userArtistRepository;
     private final PostRepository postRepository;
+    private final LiveCalendarCache liveCalendarCache;
+    private final UpcomingLiveTimeline upcomingLiveTimeline;
+    private final LiveReadModelReader liveReadModelReader;
+    private final LiveDetailCache liveDetailCache;
+    private final FollowedLiveFeed followedLiveFeed;
+    private final BookmarkedScheduleIndex bookmarkedScheduleIndex;
 
     // 공연 전체 조회
     public Page<LiveSummaryResponse> getAllLives(Pageable pageable, User user) {
-        Page<Live> lives = liveRepository.findAllByRequestStatus(RequestStatus.APPROVED, pageable);
+        Page<LiveSummaryView> rows = liveRepository.findSummariesByRequestStatus(RequestStatus.APPROVED, pageable);
 
-        return lives.map(live -> {
-            LiveSummaryResponse response = LiveSummaryResponse.fromEntity(live);
+        List<LiveSummaryResponse> responses = liveReadModelReader.toSummaries(rows.getContent());
+        bookmarkService.applyBookmarkStatus(responses, user);
 
-            boolean isBookmarked = bookmarkService.isBookmarked(live.getId(), user);
-            response.setIsBookmarked(isBookmarked);
+        return new PageImpl<>(responses, pageable, rows.getTotalElements());
+    }
 
-            return response;
-        });
+    // 공연 전체 조회 (커서 모드, count 쿼리 없음)
+    public Slice<LiveSummaryResponse> getAllLivesAfter(Long afterId, int size, User user) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<LiveSummaryView> rows = liveRepository.findSummariesByRequestStatusAfter(RequestStatus.APPROVED, afterId, pageable);
+
+        List<LiveSummaryResponse> responses = liveReadModelReader.toSummaries(rows.getContent());
+        bookmarkService.applyBookmarkStatus(responses, user);
+
+        return new SliceImpl<>(responses, pageable, rows.hasNext());
     }
 
     // 공연 단일 조회
     public LiveResponse getLive(Long liveId, User user) {
-        Live live = liveRepository.findByIdAndRequestStatus(liveId, RequestStatus.APPROVED)
-                .orElseThrow(() -> new ResourceNotFoundException("공연을 찾을 수 없습니다. ID: " + liveId));
-
-        LiveResponse response = LiveResponse.fromEntity(live);
+        LiveResponse response = liveDetailCache.get(liveId, () -> {
+            Live live = liveRepository.findByIdAndRequestStatus(liveId, RequestStatus.APPROVED)
+                    .orElseThrow(() -> new ResourceNotFoundException("공연을 찾을 수 없습니다. ID: " + liveId));
+            return LiveResponse.fromEntity(live);
+        });
 
-        boolean isBookmarked = bookmarkService.isBookmarked(live.getId(), user);
+        boolean isBookmarked = bookmarkService.getBookmarkedLiveIds(List.of(liveId), user).contains(liveId);
         response.setIsBookmarked(isBookmarked);
 
         return response;
@@ -61,6 +76,12 @@ public class LiveService {
 
     // 아티스트 조회
     public List<ArtistSummaryDto> getArtists(Long liveId) {
+        // 상세가 캐시돼 있으면(티켓 오픈 예열 포함) DB 없이 응답
+        LiveResponse cached = liveDetailCache.peek(liveId);
+        if (cached != null) {
+            return cached.getArtists();
+        }
+
         List<LiveArtist> liveArtists = liveArtistRepository.findAllByLiveId(liveId);
 
         return liveArtists.stream()
@@ -71,44 +92,19 @@ public class LiveService {
 
     // 가장 가까운 시일 내에 예정된 공연 n개 조회
     public List<LiveSummaryResponse> getUpcomingLives(User user, int n) {
-        LocalDate today = LocalDate.now();
-        PageRequest pageRequest = PageRequest.of(0, n*5);
-
-        List<LiveSchedule> upcomingLives = liveScheduleRepository
-                .findByLive_RequestStatusAndSchedule_LiveDateGreaterThanEqualOrderBySchedule_LiveDateAscSchedule_LiveTimeAsc(
-                        RequestStatus.APPROVED,
-                        today,
-                        pageRequest
-        );
+        // 순서는 인메모리 타임라인에서, 내용은 해당 공연들만 한 번에 조회
+        List<Long> liveIds = upcomingLiveTimeline.nextLiveIds(n);
 
-        Map<Long, LiveSummaryResponse> map = new LinkedHashMap<>();
+        List<LiveSummaryResponse> result = liveReadModelReader.findSummariesByIds(liveIds);
 
-        boolean isBookmarked;
-        Live live;
+        bookmarkService.applyBookmarkStatus(result, user);
 
-        for (LiveSchedule ls : upcomingLives) {
-            live = ls.getLive();
-            Long liveId = live.getId();
-
-            isBookmarked = bookmarkService.isBookmarked(liveId, user);
-
-            if (!map.containsKey(liveId)) {
-                map.put(liveId, LiveSummaryResponse.fromEntity(live, isBookmarked));
-            }
-
-            if (map.size() == n) {
-                break;
-            }
-        }
-
-        return new ArrayList<>(map.values());
+        return result;
     }
 
     public List<LiveSummaryResponse> getLivesByYearAndMonth(int year, int month, Long currentUserId) {
 
         YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
 
         final User currentUser;
         if (currentUserId != null) {
@@ -118,90 +114,63 @@ public class LiveService {
             currentUser = null;
         }
 
-        List<LiveSchedule> schedules =
-                liveScheduleRepository
-                        .findByLive_RequestStatusAndSchedule_LiveDateBetweenOrderBySchedule_LiveDateAscSchedule_LiveTimeAsc(
-                                RequestStatus.APPROVED,
-                                startDate,
-                                endDate
-                        );
+        // 유저 무관 부분은 월 단위 캐시, 북마크 여부만 요청마다 덧씌움
+        List<LiveSummaryResponse> result = liveCalendarCache.get(yearMonth, () -> loadLivesOfMonth(yearMonth));
+
+        bookmarkService.applyBookmarkStatus(result, currentUser);
+
+        return result;
+    }
+
+    private List<LiveSummaryResponse> loadLivesOfMonth(YearMonth yearMonth) {
+        List<LiveScheduleView> schedules = liveScheduleRepository.findScheduleViewsBetween(
+                RequestStatus.APPROVED,
+                yearMonth.atDay(1),
+                yearMonth.atEndOfMonth()
+        );
+
+        Set<Long> liveIds = schedules.stream()
+                .map(LiveScheduleView::getLiveId)
+                .collect(Collectors.toSet());
+        Map<Long, LiveSummaryView> rows = liveReadModelReader.summaryRowsOf(liveIds);
+        Map<Long, List<ArtistSummaryDto>> artists = liveReadModelReader.artistsOf(liveIds);
 
+        // 스케줄 한 건당 한 항목
         return schedules.stream()
-                .map(ls -> {
-                    Live live = ls.getLive();
-                    Schedule schedule = ls.getSchedule();
-
-                    boolean isBookmarked = currentUser != null &&
-                            bookmarkRepository.existsByUserAndLive(currentUser, live);
-
-                    return LiveSummaryResponse.builder()
-                            .id(live.getId())
-                            .title(live.getTitle())
-                            .posterUrl(live.getPosterUrl())
-                            .ticketUrl(live.getTicketUrl())
-                            .ticketDateTime(live.getTicketDateTime())
-                            .artists(
-                                    live.getLiveArtists() == null ? List.of()
-                                            : live.getLiveArtists().stream()
-                                            .map(link -> ArtistSummaryDto.fromEntity(link.getArtist()))
-                                            .toList()
-                            )
-                            .schedules(
-                                    List.of(LiveScheduleDto.fromEntity(schedule))
-                            )
-                            .countBookmark(
-                                    live.getBookmarks() == null ? 0 : live.getBookmarks().size()
-                            )
-                            .isBookmarked(isBookmarked)
-                            .build();
-                })
+                .map(schedule -> LiveSummaryResponse.fromView(
+                        rows.get(schedule.getLiveId()),
+                        artists.getOrDefault(schedule.getLiveId(), List.of()),
+                        List.of(LiveScheduleDto.fromView(schedule))
+                ))
                 .toList();
     }
 
     public LiveSummaryResponse getNearestBookmarkedLive(Long userId) {
 
-        final User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다. ID: " + userId));
-
-        LocalDate today = LocalDate.now();
-        LocalTime now = LocalTime.now();
-        Pageable pageable = PageRequest.of(0, 1); // 딱 1개만
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("유저를 찾을 수 없습니다. ID: " + userId);
+        }
 
-        List<LiveSchedule> schedules =
-                bookmarkRepository.findNearestFutureBookmarkedSchedule(
-                        currentUser,
-                        RequestStatus.APPROVED,
-                        today,
-                        now,
-                        pageable
-                );
+        // 유저별 북마크 스케줄 인덱스의 첫 원소
+        BookmarkedScheduleIndex.NearestSchedule nearest = bookmarkedScheduleIndex.nearest(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("다가오는 즐겨찾기 공연이 없습니다."));
+        Long liveId = nearest.liveId();
 
-        if (schedules.isEmpty()) {
+        LiveSummaryView row = liveReadModelReader.summaryRowsOf(List.of(liveId)).get(liveId);
+        if (row == null) {
+            // 인덱스에 남은 공연이 DB 에 없으면 인덱스를 버려 다음 조회 때 다시 적재
+            bookmarkedScheduleIndex.invalidate(userId);
             throw new ResourceNotFoundException("다가오는 즐겨찾기 공연이 없습니다.");
         }
 
-        LiveSchedule nearest = schedules.get(0);
-        Live live = nearest.getLive();
-        Schedule schedule = nearest.getSchedule();
-
-        return LiveSummaryResponse.builder()
-                .id(live.getId())
-                .title(live.getTitle())
-                .posterUrl(live.getPosterUrl())
-                .ticketUrl(live.getTicketUrl())
-                .ticketDateTime(live.getTicketDateTime())
-                .artists(
-                        live.getLiveArtists() == null ? List.of()
-                                : live.getLiveArtists().stream()
-                                .map(link -> ArtistSummaryDto.fromEntity(link.getArtist()))
-                                .toList()
-                )
-                .schedules(List.of(LiveScheduleDto.fromEntity(schedule)))
-                .countBookmark(
-                        live.getBookmarks() == null ? 0 : live.getBookmarks().size()
-                )
-                .isBookmarked(true)
-                .build();
+        LiveSummaryResponse response = LiveSummaryResponse.fromView(
+                row,
+                liveReadModelReader.artistsOf(List.of(liveId)).getOrDefault(liveId, List.of()),
+                List.of(nearest.schedule())
+        );
+        response.setIsBookmarked(true);
+
+        return response;
     }
 
     public List<LiveSummaryResponse> getUpcomingLivesOfFollowedArtists(Long userId) {
@@ -209,73 +178,26 @@ public class LiveService {
         final User currentUser = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다. ID: " + userId));
 
-        LocalDate today = LocalDate.now();
-        LocalTime now = LocalTime.now();
-
-        List<LiveSchedule> schedules =
-                userArtistRepository.findFutureSchedulesOfFollowedArtists(
-                        currentUser,
-                        RequestStatus.APPROVED,
-                        today,
-                        now
-                );
-
-        Map<Long, LiveWithSchedules> grouped = new LinkedHashMap<>();
-
-        for (LiveSchedule ls : schedules) {
-            Live live = ls.getLive();
-            Schedule schedule = ls.getSchedule();
-            Long liveId = live.getId();
-
-            LiveWithSchedules group = grouped.get(liveId);
-            if (group == null) {
-                group = new LiveWithSchedules(live, new ArrayList<>());
-                grouped.put(liveId, group);
-            }
-            group.schedules().add(schedule);
-        }
+        // 유저별로 미리 쌓아둔 피드에서 범위 읽기 (공연별 앞으로의 스케줄, 가장 가까운 스케줄 순)
+        Map<Long, List<LiveScheduleDto>> grouped = followedLiveFeed.upcomingSchedulesOf(userId);
 
-        List<LiveSummaryResponse> result = new ArrayList<>();
-
-        for (LiveWithSchedules group : grouped.values()) {
-            Live live = group.live();
-            List<Schedule> futureSchedules = group.schedules();
-
-            boolean isBookmarked = bookmarkRepository.existsByUserAndLive(currentUser, live);
-
-            LiveSummaryResponse dto = LiveSummaryResponse.builder()
-                    .id(live.getId())
-                    .title(live.getTitle())
-                    .posterUrl(live.getPosterUrl())
-                    .ticketUrl(live.getTicketUrl())
-                    .ticketDateTime(live.getTicketDateTime())
-                    .artists(
-                            live.getLiveArtists() == null ? List.of()
-                                    : live.getLiveArtists().stream()
-                                    .map(link -> ArtistSummaryDto.fromEntity(link.getArtist()))
-                                    .toList()
-                    )
-                    .schedules(
-                            futureSchedules.stream()
-                                    .map(LiveScheduleDto::fromEntity)
-                                    .toList()
-                    )
-                    .countBookmark(
-                            live.getBookmarks() == null ? 0 : live.getBookmarks().size()
-                    )
-                    .isBookmarked(isBookmarked)
-                    .build();
-
-            result.add(dto);
-        }
+        Map<Long, LiveSummaryView> rows = liveReadModelReader.summaryRowsOf(grouped.keySet());
+        Map<Long, List<ArtistSummaryDto>> artists = liveReadModelReader.artistsOf(grouped.keySet());
+
+        // 피드에 남아 있지만 DB 에 없는 공연은 건너뜀
+        List<LiveSummaryResponse> result = grouped.entrySet().stream()
+                .filter(entry -> rows.containsKey(entry.getKey()))
+                .map(entry -> LiveSummaryResponse.fromView(
+                        rows.get(entry.getKey()),
+                        artists.getOrDefault(entry.getKey(), List.of()),
+                        entry.getValue()
+                ))
+                .toList();
+
+        bookmarkService.applyBookmarkStatus(result, currentUser);
 
         return result;
     }
-    private record LiveWithSchedules(
-            Live live,
-            List<Schedule> schedules
-    ) {
-    }
 
     public List<BookmarkReviewResponse> getBookmarkedLiveReviews(Long userId) {
 
@@ -0,0 +1,229 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.dto.LiveResponse;
+import com.team7.ConcerTUNE.entity.RequestStatus;
+import com.team7.ConcerTUNE.exception.LiveQueuedException;
+import com.team7.ConcerTUNE.repository.LiveRepository;
+import com.team7.ConcerTUNE.security.SimpleUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 티켓 오픈 서지 모드
+// 티켓 오픈이 임박한 공연은 상세 응답을 캐시에 고정하고 캘린더 월도 미리 채워두며,
+// 노드당 동시 요청이 임계치를 넘으면 Redis ZSET 대기열 순서대로 입장시킴
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LiveSurgeService {
+
+    private static final String QUEUE_PREFIX = "LiveQueue:";
+    private static final String SEEN_PREFIX = "LiveQueueSeen:";
+    // 이 시간 동안 재요청이 없으면 대기열에서 제거
+    private static final Duration ABANDON_AFTER = Duration.ofSeconds(30);
+    private static final Duration QUEUE_TTL = Duration.ofHours(2);
+    private static final long MAX_RETRY_AFTER_SECONDS = 10;
+
+    private final LiveRepository liveRepository;
+    private final LiveService liveService;
+    private final LiveDetailCache liveDetailCache;
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+
+    @Value("${live.surge.lead-minutes:30}")
+    private long leadMinutes;
+
+    @Value("${live.surge.tail-minutes:30}")
+    private long tailMinutes;
+
+    @Value("${live.surge.max-concurrent:200}")
+    private int maxConcurrent;
+
+    private final Set<Long> surgeLives = ConcurrentHashMap.newKeySet();
+    private final Map<Long, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    // 1분마다 서지 대상 공연 갱신 + 서지 구간 동안 매번 예열
+    // 상세(아티스트 포함)는 캐시에 고정하고, 스케줄이 걸친 월의 공연 캘린더도 채워둠
+    @Scheduled(fixedDelay = 60_000)
+    public void refreshSurgeLives() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> current = new HashSet<>(liveRepository.findIdsByTicketDateTimeBetween(
+                RequestStatus.APPROVED,
+                now.minusMinutes(tailMinutes),
+                now.plusMinutes(leadMinutes)
+        ));
+
+        for (Long liveId : current) {
+            if (surgeLives.add(liveId)) {
+                log.info("서지 모드 시작: liveId={}", liveId);
+                liveDetailCache.pin(liveId);
+            }
+            prewarm(liveId);
+        }
+
+        surgeLives.removeIf(liveId -> {
+            if (current.contains(liveId)) {
+                return false;
+            }
+            log.info("서지 모드 종료: liveId={}", liveId);
+            inFlight.remove(liveId);
+            liveDetailCache.unpin(liveId);
+            try {
+                stringStringRedisTemplate.delete(List.of(QUEUE_PREFIX + liveId, SEEN_PREFIX + liveId));
+            } catch (DataAccessException e) {
+                // 대기열 키는 QUEUE_TTL 이 지나면 사라짐
+                log.warn("서지 대기열 정리 실패: liveId={}", liveId, e);
+            }
+            return true;
+        });
+    }
+
+    // 캐시에 있으면 조회만, 무효화/만료됐으면 다시 적재
+    private void prewarm(Long liveId) {
+        try {
+            LiveResponse live = liveService.getLive(liveId, null);
+            Set<YearMonth> months = new HashSet<>();
+            if (live.getSchedules() != null) {
+                live.getSchedules().forEach(schedule -> months.add(YearMonth.from(schedule.getLiveDate())));
+            }
+            months.forEach(month -> liveService.getLivesByYearAndMonth(month.getYear(), month.getMonthValue(), null));
+        } catch (Exception e) {
+            log.warn("서지 공연 예열 실패: liveId={}", liveId, e);
+        }
+    }
+
+    // 재요청을 멈춘 대기자 정리 (앞 순번이 막히지 않도록)
+    @Scheduled(fixedDelay = 10_000)
+    public void dropAbandonedClients() {
+        double threshold = System.currentTimeMillis() - ABANDON_AFTER.toMillis();
+        ZSetOperations<String, String> zSet = stringStringRedisTemplate.opsForZSet();
+
+        for (Long liveId : surgeLives) {
+            Set<String> abandoned = zSet.rangeByScore(SEEN_PREFIX + liveId, 0, threshold);
+            if (abandoned != null && !abandoned.isEmpty()) {
+                Object[] members = abandoned.toArray();
+                zSet.remove(QUEUE_PREFIX + liveId, members);
+                zSet.remove(SEEN_PREFIX + liveId, members);
+            }
+        }
+    }
+
+    public boolean isSurging(Long liveId) {
+        return surgeLives.contains(liveId);
+    }
+
+    // 로그인 유저는 유저 ID, 비로그인은 대기열 토큰(없으면 새로 발급)으로 식별
+    public String clientKeyOf(SimpleUserDetails principal, String queueToken) {
+        if (principal != null) {
+            return "user:" + principal.getUserId();
+        }
+        if (queueToken != null && !queueToken.isBlank()) {
+            return "guest:" + queueToken;
+        }
+        return "guest:" + UUID.randomUUID();
+    }
+
+    // 입장 허가. 서지 대상이 아니면 바로 통과, 대기해야 하면 LiveQueuedException
+    public Permit enter(Long liveId, String clientKey) {
+        if (!surgeLives.contains(liveId)) {
+            return Permit.NONE;
+        }
+
+        AtomicInteger counter = inFlight.computeIfAbsent(liveId, id -> new AtomicInteger());
+        int active = counter.incrementAndGet();
+
+        boolean admitted;
+        try {
+            admitted = active <= maxConcurrent && admitFromQueue(liveId, clientKey, active);
+        } catch (DataAccessException e) {
+            // Redis 장애 시 대기열 없이 노드 로컬 동시 요청 수만으로 입장 결정
+            log.warn("서지 대기열 조회 실패, 로컬 카운터로 입장 판단: liveId={}", liveId, e);
+            if (active <= maxConcurrent) {
+                return new Permit(counter);
+            }
+            counter.decrementAndGet();
+            throw new LiveQueuedException(liveId, active - maxConcurrent, 1, queueTokenOf(clientKey));
+        }
+        if (admitted) {
+            return new Permit(counter);
+        }
+        counter.decrementAndGet();
+
+        long position;
+        try {
+            position = enqueue(liveId, clientKey);
+        } catch (DataAccessException e) {
+            log.warn("서지 대기열 등록 실패: liveId={}", liveId, e);
+            position = 1;
+        }
+        long retryAfter = Math.min(MAX_RETRY_AFTER_SECONDS, 1 + position / Math.max(1, maxConcurrent));
+
+        throw new LiveQueuedException(liveId, position, retryAfter, queueTokenOf(clientKey));
+    }
+
+    // 대기열이 비어 있거나, 남은 자리 안에 드는 앞 순번이면 입장 (대기열에서 제거)
+    private boolean admitFromQueue(Long liveId, String clientKey, int active) {
+        ZSetOperations<String, String> zSet = stringStringRedisTemplate.opsForZSet();
+        String queueKey = QUEUE_PREFIX + liveId;
+
+        Long waiting = zSet.zCard(queueKey);
+        if (waiting == null || waiting == 0) {
+            return true;
+        }
+
+        Long rank = zSet.rank(queueKey, clientKey);
+        if (rank != null && rank <= maxConcurrent - active) {
+            zSet.remove(queueKey, clientKey);
+            zSet.remove(SEEN_PREFIX + liveId, clientKey);
+            return true;
+        }
+        return false;
+    }
+
+    // 대기열 등록(이미 있으면 순번 유지) 후 1부터 시작하는 순번
+    private long enqueue(Long liveId, String clientKey) {
+        ZSetOperations<String, String> zSet = stringStringRedisTemplate.opsForZSet();
+        String queueKey = QUEUE_PREFIX + liveId;
+        String seenKey = SEEN_PREFIX + liveId;
+
+        long now = System.currentTimeMillis();
+        zSet.addIfAbsent(queueKey, clientKey, now);
+        zSet.add(seenKey, clientKey, now);
+        stringStringRedisTemplate.expire(queueKey, QUEUE_TTL);
+        stringStringRedisTemplate.expire(seenKey, QUEUE_TTL);
+
+        Long rank = zSet.rank(queueKey, clientKey);
+        return (rank == null ? 0 : rank) + 1;
+    }
+
+    private String queueTokenOf(String clientKey) {
+        return clientKey.startsWith("guest:") ? clientKey.substring("guest:".length()) : null;
+    }
+
+    // try-with-resources 로 요청 종료 시 동시 요청 수 반환
+    public record Permit(AtomicInteger counter) implements AutoCloseable {
+        static final Permit NONE = new Permit(null);
+
+        @Override
+        public void close() {
+            if (counter != null) {
+                counter.decrementAndGet();
+            }
+        }
+    }
+}
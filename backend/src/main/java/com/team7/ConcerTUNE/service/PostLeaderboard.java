@@ -0,0 +1,191 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.entity.CommunityCategoryType;
+import com.team7.ConcerTUNE.event.PostChangedEvent;
+import com.team7.ConcerTUNE.event.PostLikeChangedEvent;
+import com.team7.ConcerTUNE.repository.PostRepository;
+import com.team7.ConcerTUNE.repository.projection.PostRankView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// 카테고리별 베스트 게시글 / 주간 인기 게시글 랭킹 (Redis ZSET)
+// 점수 = 좋아요 수 + 작성 시각 소수부 (좋아요가 같으면 최신 글이 위)
+// 좋아요/작성/삭제 시 해당 게시글 점수만 갱신, 주간 랭킹은 1시간마다 7일 지난 글을 걷어냄
+// 적재 표시 키가 없으면 (Redis 초기화 등) 다음 적재 전까지 랭킹 대신 DB 정렬을 쓰도록 빈 값을 반환
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostLeaderboard {
+
+    private static final String BEST_PREFIX = "PostBest:";
+    private static final String WEEKLY_KEY = "PostWeekly";
+    // 주간 랭킹 창 관리용 (작성 시각 점수)
+    private static final String WEEKLY_CREATED_KEY = "PostWeekly:createdAt";
+    private static final int WEEKLY_DAYS = 7;
+    // 모든 랭킹이 DB 에서 적재되었음을 표시 (글이 없어 지워진 랭킹과 유실된 랭킹 구분)
+    private static final String LOADED_KEY = "PostLeaderboard:loaded";
+    // 적재 도중 노드가 죽어 남은 임시 키 정리용
+    private static final Duration LOADING_TTL = Duration.ofMinutes(10);
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final PostRepository postRepository;
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+
+    // 기동 시 + 매시 30분, DB 기준으로 다시 적재 (임시 키에 쌓은 뒤 한 번에 교체)
+    // 커밋 후 반영이 Redis 장애로 빠졌거나 적재 도중 다른 노드에서 들어온 좋아요도 다음 재적재 때 맞춰짐
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 * * * *")
+    @Transactional(readOnly = true)
+    public void load() {
+        Map<String, Set<ZSetOperations.TypedTuple<String>>> boards = new HashMap<>();
+        LocalDateTime weekAgo = LocalDateTime.now().minusDays(WEEKLY_DAYS);
+
+        try (Stream<PostRankView> posts = postRepository.streamAllForRanking()) {
+            posts.forEach(post -> {
+                String member = String.valueOf(post.getId());
+                double score = score(post.getLikeCount(), post.getCreatedAt());
+                boards.computeIfAbsent(BEST_PREFIX + post.getCategory(), key -> new HashSet<>())
+                        .add(ZSetOperations.TypedTuple.of(member, score));
+                if (post.getCreatedAt() != null && post.getCreatedAt().isAfter(weekAgo)) {
+                    boards.computeIfAbsent(WEEKLY_KEY, key -> new HashSet<>())
+                            .add(ZSetOperations.TypedTuple.of(member, score));
+                    boards.computeIfAbsent(WEEKLY_CREATED_KEY, key -> new HashSet<>())
+                            .add(ZSetOperations.TypedTuple.of(member, (double) epochSeconds(post.getCreatedAt())));
+                }
+            });
+        }
+
+        // 노드마다 다른 임시 키를 써서 동시에 적재해도 서로의 임시 키를 지우거나 섞지 않음
+        String loadingSuffix = ":loading:" + UUID.randomUUID();
+        List<String> keys = new ArrayList<>(List.of(WEEKLY_KEY, WEEKLY_CREATED_KEY));
+        for (CommunityCategoryType category : CommunityCategoryType.values()) {
+            keys.add(BEST_PREFIX + category);
+        }
+        for (String key : keys) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = boards.get(key);
+            if (tuples == null || tuples.isEmpty()) {
+                stringStringRedisTemplate.delete(key);
+                continue;
+            }
+            String loadingKey = key + loadingSuffix;
+            stringStringRedisTemplate.opsForZSet().add(loadingKey, tuples);
+            stringStringRedisTemplate.expire(loadingKey, LOADING_TTL);
+            stringStringRedisTemplate.rename(loadingKey, key);
+            // rename 은 임시 키의 만료 시간을 그대로 가져오므로 해제
+            stringStringRedisTemplate.persist(key);
+        }
+        stringStringRedisTemplate.opsForValue().set(LOADED_KEY, LocalDateTime.now().toString());
+        log.info("게시글 랭킹 적재 완료");
+    }
+
+    // 카테고리별 베스트 게시글 ID (좋아요 순), 랭킹이 적재되어 있지 않으면 빈 값
+    public Optional<List<Long>> bestPostIds(CommunityCategoryType category, int size) {
+        return topIds(BEST_PREFIX + category, size);
+    }
+
+    // 최근 7일 작성 게시글 중 좋아요 순, 랭킹이 적재되어 있지 않으면 빈 값
+    public Optional<List<Long>> weeklyPostIds(int size) {
+        return topIds(WEEKLY_KEY, size);
+    }
+
+    @TransactionalEventListener
+    public void onLikeChanged(PostLikeChangedEvent event) {
+        String member = String.valueOf(event.postId());
+        ZSetOperations<String, String> zSet = stringStringRedisTemplate.opsForZSet();
+
+        zSet.incrementScore(BEST_PREFIX + event.category(), member, event.delta());
+        // 주간 창에 들어 있는 글만 갱신 (창 밖의 글을 새로 넣지 않도록)
+        if (zSet.score(WEEKLY_KEY, member) != null) {
+            zSet.incrementScore(WEEKLY_KEY, member, event.delta());
+        }
+    }
+
+    // 작성/수정/삭제: DB 의 현재 값으로 점수를 다시 씀
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        String member = String.valueOf(event.postId());
+        ZSetOperations<String, String> zSet = stringStringRedisTemplate.opsForZSet();
+
+        for (CommunityCategoryType category : CommunityCategoryType.values()) {
+            zSet.remove(BEST_PREFIX + category, member);
+        }
+
+        PostRankView post = postRepository.findRankViewById(event.postId()).orElse(null);
+        if (post == null) {
+            zSet.remove(WEEKLY_KEY, member);
+            zSet.remove(WEEKLY_CREATED_KEY, member);
+            return;
+        }
+
+        double score = score(post.getLikeCount(), post.getCreatedAt());
+        zSet.add(BEST_PREFIX + post.getCategory(), member, score);
+        if (post.getCreatedAt() != null && post.getCreatedAt().isAfter(LocalDateTime.now().minusDays(WEEKLY_DAYS))) {
+            zSet.add(WEEKLY_KEY, member, score);
+            zSet.add(WEEKLY_CREATED_KEY, member, epochSeconds(post.getCreatedAt()));
+        }
+    }
+
+    // 매시 정각, 작성 후 7일이 지난 글을 주간 랭킹에서 제거
+    @Scheduled(cron = "0 0 * * * *")
+    public void trimWeekly() {
+        long cutoff = epochSeconds(LocalDateTime.now().minusDays(WEEKLY_DAYS));
+        ZSetOperations<String, String> zSet = stringStringRedisTemplate.opsForZSet();
+
+        Set<String> expired = zSet.rangeByScore(WEEKLY_CREATED_KEY, Double.NEGATIVE_INFINITY, cutoff);
+        if (expired == null || expired.isEmpty()) {
+            return;
+        }
+        Object[] members = expired.toArray();
+        zSet.remove(WEEKLY_KEY, members);
+        zSet.remove(WEEKLY_CREATED_KEY, members);
+    }
+
+    // 적재된 뒤라면 키가 없는 랭킹은 글이 없는 것
+    // 적재 표시가 없으면 좋아요 반영으로 일부만 다시 생긴 키일 수 있으므로 읽지 않음
+    private Optional<List<Long>> topIds(String key, int size) {
+        if (!Boolean.TRUE.equals(stringStringRedisTemplate.hasKey(LOADED_KEY))) {
+            return Optional.empty();
+        }
+        Set<String> members = stringStringRedisTemplate.opsForZSet().reverseRange(key, 0, size - 1);
+        return Optional.of(toIds(members));
+    }
+
+    private List<Long> toIds(Collection<String> members) {
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    // 정수부: 좋아요 수, 소수부: 작성 시각 (초 / 1e10)
+    private double score(Integer likeCount, LocalDateTime createdAt) {
+        long likes = likeCount == null ? 0 : likeCount;
+        return likes + (createdAt == null ? 0 : epochSeconds(createdAt) / 1e10);
+    }
+
+    private long epochSeconds(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toEpochSecond();
+    }
+}
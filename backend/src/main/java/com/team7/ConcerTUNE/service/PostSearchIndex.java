@@ -0,0 +1,203 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.entity.CommunityCategoryType;
+import com.team7.ConcerTUNE.event.PostChangedEvent;
+import com.team7.ConcerTUNE.repository.PostRepository;
+import com.team7.ConcerTUNE.repository.projection.PostIndexView;
+import com.team7.ConcerTUNE.util.BigramTokenizer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// 게시글 전문 검색용 인메모리 역색인 (바이그램 + 한 글자 토큰)
+// 모든 쿼리 토큰을 포함하는 게시글만 후보로 보고 BM25 로 점수를 매김 (제목은 가중치 3배)
+// 작성/수정/삭제는 커밋 후 pub/sub 으로 모든 노드에 알려 해당 게시글만 다시 색인
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndex {
+
+    private static final String REINDEX_CHANNEL = "post:reindex";
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PostRepository postRepository;
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 토큰 -> (게시글 ID -> 가중 등장 횟수)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength = 0;
+
+    @PostConstruct
+    public void subscribeReindex() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> reindex(Long.valueOf(new String(message.getBody()))),
+                new ChannelTopic(REINDEX_CHANNEL)
+        );
+    }
+
+    // 서버 기동 시 전체 색인
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            try (Stream<PostIndexView> posts = postRepository.streamAllForIndex()) {
+                posts.forEach(this::put);
+            }
+            log.info("게시글 검색 색인 적재 완료: {}건, 토큰 {}종", documents.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            stringStringRedisTemplate.convertAndSend(REINDEX_CHANNEL, String.valueOf(event.postId()));
+        } catch (Exception e) {
+            // Redis 장애 시 최소한 이 노드의 색인은 맞춰둠
+            log.warn("게시글 재색인 알림 실패: postId={}", event.postId(), e);
+            reindex(event.postId());
+        }
+    }
+
+    // 관련도 순 게시글 ID (category 가 null 이면 전체)
+    public Page<Long> search(String query, CommunityCategoryType category, Pageable pageable) {
+        List<String> queryTokens = BigramTokenizer.tokenize(query).stream().distinct().toList();
+        if (queryTokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>();
+            for (String token : queryTokens) {
+                Map<Long, Integer> list = postings.get(token);
+                if (list == null) {
+                    return Page.empty(pageable);
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 목록을 기준으로 교집합
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            double avgLength = documents.isEmpty() ? 1 : (double) totalLength / documents.size();
+            int docCount = documents.size();
+
+            candidates:
+            for (Long postId : lists.get(0).keySet()) {
+                Document document = documents.get(postId);
+                if (category != null && document.category() != category) {
+                    continue;
+                }
+
+                double score = 0;
+                for (Map<Long, Integer> list : lists) {
+                    Integer tf = list.get(postId);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    double idf = Math.log(1 + (docCount - list.size() + 0.5) / (list.size() + 0.5));
+                    double norm = K1 * (1 - B + B * document.length() / avgLength);
+                    score += idf * (tf * (K1 + 1)) / (tf + norm);
+                }
+                hits.add(new Hit(postId, score));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(Hit::postId, Comparator.reverseOrder()));
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> pageIds = hits.subList(from, to).stream().map(Hit::postId).toList();
+
+        return new PageImpl<>(pageIds, pageable, hits.size());
+    }
+
+    // DB 의 현재 상태로 게시글 하나를 다시 색인 (없으면 제거)
+    private void reindex(Long postId) {
+        PostIndexView post = postRepository.findIndexViewById(postId).orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            remove(postId);
+            if (post != null) {
+                put(post);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 아래 메서드는 쓰기 락을 잡은 상태에서만 호출
+    private void put(PostIndexView post) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        BigramTokenizer.tokenizeForIndex(post.getTitle())
+                .forEach(token -> termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.tokenizeForIndex(post.getContent())
+                .forEach(token -> termFrequencies.merge(token, 1, Integer::sum));
+
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        termFrequencies.forEach((token, tf) ->
+                postings.computeIfAbsent(token, t -> new HashMap<>()).put(post.getId(), tf));
+
+        documents.put(post.getId(), new Document(post.getCategory(), length, termFrequencies.keySet().toArray(String[]::new)));
+        totalLength += length;
+    }
+
+    private void remove(Long postId) {
+        Document document = documents.remove(postId);
+        if (document == null) {
+            return;
+        }
+
+        for (String token : document.tokens()) {
+            Map<Long, Integer> list = postings.get(token);
+            if (list != null) {
+                list.remove(postId);
+                if (list.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    private record Document(CommunityCategoryType category, int length, String[] tokens) {
+    }
+
+    private record Hit(Long postId, double score) {
+    }
+}
@@ -4,23 +4,38 @@ import com.team7.ConcerTUNE.dto.PostCreateRequest;
 import com.team7.ConcerTUNE.dto.PostCreateWithLIveIdRequest;
 import com.team7.ConcerTUNE.dto.PostUpdateRequest;
 import com.team7.ConcerTUNE.dto.PostResponse;
+import com.team7.ConcerTUNE.dto.PostSummaryResponse;
 import com.team7.ConcerTUNE.entity.*;
+import com.team7.ConcerTUNE.event.PostChangedEvent;
+import com.team7.ConcerTUNE.event.PostCreatedEvent;
+import com.team7.ConcerTUNE.event.PostLikeChangedEvent;
 import com.team7.ConcerTUNE.exception.PostNotFoundException;
 import com.team7.ConcerTUNE.exception.UnauthorizedException;
 import com.team7.ConcerTUNE.repository.LiveRepository;
 import com.team7.ConcerTUNE.repository.PostLikeRepository;
 import com.team7.ConcerTUNE.repository.PostRepository;
 import com.team7.ConcerTUNE.repository.UserRepository;
+import com.team7.ConcerTUNE.repository.projection.PostSummaryView;
+import com.team7.ConcerTUNE.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 // 게시글 서비스
@@ -34,6 +49,12 @@ public class 	PostService {
 	private final PostLikeRepository postLikeRepository;
 	private final UserRepository userRepository;
 	private final LiveRepository liveRepository;
+	private final PostSearchIndex postSearchIndex;
+	private final PostViewCounter postViewCounter;
+	private final PostLeaderboard postLeaderboard;
+	private final PostSummaryCache postSummaryCache;
+	private final PostTimeline postTimeline;
+	private final ApplicationEventPublisher eventPublisher;
 
 	// 게시글 작성
 	public PostResponse createPost(PostCreateRequest request, CommunityCategoryType category, Long userId) {
@@ -59,6 +80,8 @@ public class 	PostService {
 				.build();
 
 		Post savedPost = postRepository.save(post);
+		eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId()));
+		eventPublisher.publishEvent(new PostCreatedEvent(savedPost.getId(), userId));
 		log.info("게시글 작성 완료: postId={}", savedPost.getId());
 		return PostResponse.from(savedPost);
 	}
@@ -81,6 +104,7 @@ public class 	PostService {
 				request.getFileUrls() != null ? request.getFileUrls() : List.of()
 		);
 		Post updatedPost = postRepository.save(post);
+		eventPublisher.publishEvent(new PostChangedEvent(updatedPost.getId()));
 		log.info("게시글 수정 완료: postId={}", updatedPost.getId());
 		return PostResponse.from(updatedPost);
 	}
@@ -97,141 +121,182 @@ public class 	PostService {
 			throw new UnauthorizedException("본인의 게시글만 삭제할 수 있습니다.");
 		}
 		postRepository.delete(post);
+		eventPublisher.publishEvent(new PostChangedEvent(postId));
 		log.info("게시글 삭제 완료: postId={}", postId);
 	}
 
 	// 카테고리별 게시글 조회
 	@Transactional(readOnly = true)
-	public Page<PostResponse> getPostsByCategory(CommunityCategoryType category, Pageable pageable) {
+	public Page<PostSummaryResponse> getPostsByCategory(CommunityCategoryType category, Pageable pageable) {
 		log.info("카테고리별 게시글 조회: category={}, page={}, size={}", category, pageable.getPageNumber(), pageable.getPageSize());
-		Page<Post> posts = postRepository.findByCategory(category, pageable);
-		return posts.map(PostResponse::from);
+		return postRepository.findSummariesByCategory(category, pageable).map(PostSummaryResponse::fromView);
 	}
 
-	public Page<PostResponse> getPostsByLiveAndCategory(Long liveId, CommunityCategoryType category, Pageable pageable
+	// 카테고리별 게시글 조회 (커서 모드)
+	@Transactional(readOnly = true)
+	public Slice<PostSummaryResponse> getPostsByCategoryAfter(CommunityCategoryType category, KeysetCursor after, int size) {
+		log.info("카테고리별 게시글 커서 조회: category={}, after={}, size={}", category, after, size);
+		return postRepository.findSummariesByCategoryAfter(category, after.createdAt(), after.id(), PageRequest.of(0, size))
+				.map(PostSummaryResponse::fromView);
+	}
+
+	@Transactional(readOnly = true)
+	public Page<PostSummaryResponse> getPostsByLiveAndCategory(Long liveId, CommunityCategoryType category, Pageable pageable
 	) {
-		Page<Post> posts = postRepository.findByLiveIdAndCategory(liveId, category, pageable);
-		return posts.map(PostResponse::from);
+		return postRepository.findSummariesByLiveIdAndCategory(liveId, category, pageable).map(PostSummaryResponse::fromView);
 	}
 
-	// 특정 게시글 조회
-	@Transactional
-	public PostResponse getPost(Long postId) {
+	// 특정 게시글 조회 (조회수는 Redis 에 쌓았다가 주기적으로 반영)
+	@Transactional(readOnly = true)
+	public PostResponse getPost(Long postId, String viewerKey) {
 		log.info("게시글 조회: postId={}", postId);
 		Post post = postRepository.findByIdWithWriter(postId)
 				.orElseThrow(() -> new PostNotFoundException(postId));
 
-		post.increaseViewCount();
-		postRepository.save(post);
-		return PostResponse.from(post);
+		long pendingViews = postViewCounter.record(postId, viewerKey);
+		PostResponse response = PostResponse.from(post);
+		response.setViewCount((int) (post.getViewCount() + pendingViews));
+		return response;
 	}
 
-	// 게시글 검색
+	// 게시글 검색 (검색 색인에서 관련도 순 ID 를 받아 해당 게시글만 로딩, category 가 null 이면 전체)
 	@Transactional(readOnly = true)
-	public Page<PostResponse> searchPosts(String keyword, Pageable pageable) {
-		log.info("게시글 검색: keyword={}, page={}, size={}", keyword, pageable.getPageNumber(), pageable.getPageSize());
-		Page<Post> posts = postRepository.findByTitleContainingOrContentContaining(keyword, pageable);
-		return posts.map(PostResponse::from);
+	public Page<PostSummaryResponse> searchPosts(String keyword, CommunityCategoryType category, Pageable pageable) {
+		log.info("게시글 검색: keyword={}, category={}, page={}, size={}", keyword, category, pageable.getPageNumber(), pageable.getPageSize());
+		Page<Long> postIds = postSearchIndex.search(keyword, category, pageable);
+		if (postIds.isEmpty()) {
+			return Page.empty(pageable);
+		}
+
+		Map<Long, PostSummaryView> posts = postRepository.findSummariesByIdIn(postIds.getContent()).stream()
+				.collect(Collectors.toMap(PostSummaryView::getId, Function.identity()));
+
+		// 색인 반영 직전에 삭제된 게시글은 건너뜀
+		List<PostSummaryResponse> content = postIds.getContent().stream()
+				.map(posts::get)
+				.filter(Objects::nonNull)
+				.map(PostSummaryResponse::fromView)
+				.toList();
+		return new PageImpl<>(content, pageable, postIds.getTotalElements());
 	}
 
 	// 베스트 게시글 조회
 	@Transactional(readOnly = true)
-	public List<PostResponse> getBestPostsByCategory(CommunityCategoryType category, Pageable pageable) {
+	public List<PostSummaryResponse> getBestPostsByCategory(CommunityCategoryType category, Pageable pageable) {
 		log.info("베스트 게시글 조회: category={}, limit={}", category, pageable.getPageSize());
-		List<Post> posts = postRepository.findBestPostsByCategory(category, pageable);
-		return posts.stream()
-				.map(PostResponse::from)
+		// Redis 랭킹에서 ID 만 꺼내고 내용은 요약 캐시로 채움 (Redis 장애 시 DB 정렬)
+		try {
+			Optional<List<Long>> postIds = postLeaderboard.bestPostIds(category, pageable.getPageSize());
+			if (postIds.isPresent()) {
+				return postSummaryCache.getAll(postIds.get());
+			}
+			log.debug("베스트 게시글 랭킹 미적재, DB 로 대체: category={}", category);
+		} catch (DataAccessException e) {
+			log.warn("베스트 게시글 랭킹 조회 실패, DB 로 대체: category={}", category, e);
+		}
+		return postRepository.findBestSummariesByCategory(category, pageable).stream()
+				.map(PostSummaryResponse::fromView)
 				.collect(Collectors.toList());
 	}
 
-	// 팔로잉 게시글 조회 
+	// 팔로잉 게시글 조회 (afterId 가 있으면 그 게시글보다 오래된 글부터)
 	@Transactional(readOnly = true)
-	public Page<PostResponse> getFollowingPosts(Long userId, Pageable pageable) {
-		log.info("팔로잉 게시글 조회: userId={}, page={}, size={}", userId, pageable.getPageNumber(), pageable.getPageSize());
-		return Page.empty(pageable);
+	public Slice<PostSummaryResponse> getFollowingPosts(Long userId, Long afterId, int size) {
+		log.info("팔로잉 게시글 조회: userId={}, after={}, size={}", userId, afterId, size);
+		List<Long> postIds;
+		try {
+			postIds = postTimeline.postIds(userId, afterId, size + 1);
+		} catch (DataAccessException e) {
+			log.warn("팔로잉 타임라인 조회 실패, DB 로 대체: userId={}", userId, e);
+			postIds = postRepository.findIdsOfFollowingsBefore(userId,
+					afterId == null ? Long.MAX_VALUE : afterId, PageRequest.of(0, size + 1));
+		}
+
+		boolean hasNext = postIds.size() > size;
+		List<PostSummaryResponse> posts = postSummaryCache.getAll(hasNext ? postIds.subList(0, size) : postIds);
+		return new SliceImpl<>(posts, PageRequest.of(0, size), hasNext);
 	}
 
-	// 게시글 좋아요
+	// 게시글 좋아요 (좋아요 행 추가와 카운트 증가 모두 단일 SQL)
 	public PostResponse likePost(Long postId, Long userId) {
 		log.info("게시글 좋아요: postId={}, userId={}", postId, userId);
-		Post post = postRepository.findByIdWithWriter(postId)
+		CommunityCategoryType category = postRepository.findCategoryById(postId)
 				.orElseThrow(() -> new PostNotFoundException(postId));
-		if (postLikeRepository.existsByUserIdAndPostId(userId, postId)) {
+		if (postLikeRepository.insertIfAbsent(userId, postId) == 0) {
 			throw new IllegalArgumentException("이미 좋아요를 누른 게시글입니다.");
 		}
-		User user = userRepository.findById(userId)
-				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
-		PostLike postLike = PostLike.builder()
-				.user(user)
-				.post(post)
-				.build();
-		postLike.setEmbeddedId();
-		postLikeRepository.save(postLike);
-		post.increaseLikeCount();
-		postRepository.save(post);
+		postRepository.incrementLikeCount(postId);
+		eventPublisher.publishEvent(new PostLikeChangedEvent(postId, category, 1));
 		log.info("게시글 좋아요 완료: postId={}, userId={}", postId, userId);
-		return PostResponse.from(post);
+		return PostResponse.from(findPostWithWriter(postId));
 	}
 
 	// 게시글 좋아요 취소
 	public PostResponse dislikePost(Long postId, Long userId) {
 		log.info("게시글 좋아요 취소: postId={}, userId={}", postId, userId);
-		Post post = postRepository.findByIdWithWriter(postId)
+		CommunityCategoryType category = postRepository.findCategoryById(postId)
 				.orElseThrow(() -> new PostNotFoundException(postId));
-		PostLike postLike = postLikeRepository.findByUserIdAndPostId(userId, postId)
-				.orElseThrow(() -> new IllegalArgumentException("좋아요를 누르지 않은 게시글입니다."));
-		postLikeRepository.delete(postLike);
-		post.decreaseLikeCount();
-		postRepository.save(post);
+		if (postLikeRepository.deleteByUserIdAndPostId(userId, postId) == 0) {
+			throw new IllegalArgumentException("좋아요를 누르지 않은 게시글입니다.");
+		}
+		postRepository.decrementLikeCount(postId);
+		eventPublisher.publishEvent(new PostLikeChangedEvent(postId, category, -1));
 		log.info("게시글 좋아요 취소 완료: postId={}, userId={}", postId, userId);
-		return PostResponse.from(post);
+		return PostResponse.from(findPostWithWriter(postId));
 	}
 
-	public List<PostResponse> getTop3WeeklyPosts() {
+	@Transactional(readOnly = true)
+	public List<PostSummaryResponse> getTop3WeeklyPosts() {
+		try {
+			Optional<List<Long>> postIds = postLeaderboard.weeklyPostIds(3);
+			if (postIds.isPresent()) {
+				return postSummaryCache.getAll(postIds.get());
+			}
+			log.debug("주간 인기 게시글 랭킹 미적재, DB 로 대체");
+		} catch (DataAccessException e) {
+			log.warn("주간 인기 게시글 랭킹 조회 실패, DB 로 대체", e);
+		}
+
 		LocalDateTime oneWeekAgo = LocalDateTime.now().minusDays(7);
 
 		PageRequest pageRequest = PageRequest.of(0, 3);
 
 		// 3. Repository 호출 및 결과 스트림 변환
-		return postRepository.findTop3WeeklyPosts(oneWeekAgo, pageRequest).stream()
-				// Post 엔티티를 PostResponse DTO로 명확하게 변환
-				.map(PostResponse::from)
+		return postRepository.findWeeklyTopSummaries(oneWeekAgo, pageRequest).stream()
+				.map(PostSummaryResponse::fromView)
 				.collect(Collectors.toList());
 	}
 
 	@Transactional
 	public boolean togglePostLike(Long postId, Long userId) {
-		User user = userRepository.findById(userId)
-				.orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-
-		Post post = postRepository.findById(postId)
+		CommunityCategoryType category = postRepository.findCategoryById(postId)
 				.orElseThrow(() -> new IllegalArgumentException("Post not found with id: " + postId));
 
-		PostLike postLike = postLikeRepository.findByUserAndPost(user, post).orElse(null);
-
-		if (postLike != null) {
+		if (postLikeRepository.deleteByUserIdAndPostId(userId, postId) > 0) {
 			// 이미 좋아요를 눌렀다면 -> 좋아요 취소 (삭제)
-			postLikeRepository.delete(postLike);
-			post.decreaseLikeCount();
+			postRepository.decrementLikeCount(postId);
+			eventPublisher.publishEvent(new PostLikeChangedEvent(postId, category, -1));
 			return false; // 좋아요 취소됨
-		} else {
-			// 좋아요를 누르지 않았다면 -> 좋아요 등록
-			PostLike newLike = PostLike.builder().user(user).post(post).build();
-			postLikeRepository.save(newLike);
-			post.increaseLikeCount();
-			return true; // 좋아요 등록됨
 		}
+
+		// 좋아요를 누르지 않았다면 -> 좋아요 등록 (동시 요청으로 이미 들어갔으면 카운트는 그대로)
+		if (postLikeRepository.insertIfAbsent(userId, postId) > 0) {
+			postRepository.incrementLikeCount(postId);
+			eventPublisher.publishEvent(new PostLikeChangedEvent(postId, category, 1));
+		}
+		return true; // 좋아요 등록됨
 	}
 
 	@Transactional(readOnly = true)
 	public boolean isPostLiked(Long postId, Long userId) {
-		User user = userRepository.findById(userId)
-				.orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-
-		Post post = postRepository.findById(postId)
-				.orElseThrow(() -> new IllegalArgumentException("Post not found with id: " + postId));
+		// 여러 건은 InteractionStatusService 로 일괄 조회
+		return postLikeRepository.existsByUserIdAndPostId(userId, postId);
+	}
 
-		return postLikeRepository.existsByUserAndPost(user, post);
+	// 카운트 UPDATE 이후에 읽어야 최신 값이 보임 (영속성 컨텍스트에 올라오기 전)
+	private Post findPostWithWriter(Long postId) {
+		return postRepository.findByIdWithWriter(postId)
+				.orElseThrow(() -> new PostNotFoundException(postId));
 	}
 
 }
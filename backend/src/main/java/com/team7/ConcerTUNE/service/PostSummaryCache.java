@@ -0,0 +1,55 @@
+package com.team7.ConcerTUNE.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team7.ConcerTUNE.dto.PostSummaryResponse;
+import com.team7.ConcerTUNE.event.PostChangedEvent;
+import com.team7.ConcerTUNE.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// 랭킹 등 ID 목록으로 게시글을 채울 때 쓰는 노드 로컬 캐시
+// 좋아요/조회수는 최대 TTL 만큼 늦게 반영됨. 수정/삭제는 이 노드에서는 즉시, 다른 노드는 TTL 후 반영
+@Component
+@RequiredArgsConstructor
+public class PostSummaryCache {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final PostRepository postRepository;
+
+    private final Cache<Long, PostSummaryResponse> cache = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .expireAfterWrite(TTL)
+            .build();
+
+    // 주어진 순서대로 반환 (없는 게시글은 제외), 캐시에 없는 것만 요약 컬럼 IN 쿼리 한 번으로 로딩
+    // 반환값은 매번 복사본
+    public List<PostSummaryResponse> getAll(List<Long> postIds) {
+        Map<Long, PostSummaryResponse> found = cache.getAll(postIds, missing -> {
+            Map<Long, PostSummaryResponse> loaded = new HashMap<>();
+            postRepository.findSummariesByIdIn(new ArrayList<>(missing))
+                    .forEach(view -> loaded.put(view.getId(), PostSummaryResponse.fromView(view)));
+            return loaded;
+        });
+
+        return postIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(response -> response.toBuilder().build())
+                .toList();
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        cache.invalidate(event.postId());
+    }
+}
@@ -0,0 +1,179 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.event.PostCreatedEvent;
+import com.team7.ConcerTUNE.event.UserFollowChangedEvent;
+import com.team7.ConcerTUNE.repository.FollowRepository;
+import com.team7.ConcerTUNE.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 팔로잉 게시글 타임라인 (하이브리드 팬아웃)
+// 일반 작성자의 새 글은 작성 시 팔로워별 Redis ZSET(점수 = 게시글 ID)에 밀어넣고 최근 CAPACITY 개만 유지
+// 팔로워가 FANOUT_LIMIT 명을 넘는 작성자는 밀어넣지 않고 조회 시 DB 에서 최근 글을 가져와 병합
+// 팔로우 관계의 원본은 follows 테이블이고 타임라인은 언제든 DB 에서 다시 만들 수 있음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostTimeline {
+
+    private static final String TIMELINE_PREFIX = "PostTimeline:";
+    // 조회 시 병합하는 작성자 ID (한 번 들어가면 빼지 않음: 이미 팬아웃하지 않은 글이 빠지지 않도록)
+    private static final String CELEBRITIES_KEY = "PostTimeline:celebrities";
+    // 타임라인이 DB 에서 한 번 적재되었음을 표시 (점수 0, 빈 타임라인과 미적재 구분)
+    private static final String LOADED_MARKER = "loaded";
+    private static final int CAPACITY = 500;
+    private static final long FANOUT_LIMIT = 10_000;
+    private static final Duration TIMELINE_TTL = Duration.ofDays(7);
+
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadCelebrities() {
+        List<Long> writerIds = followRepository.findUserIdsWithFollowersOver(FANOUT_LIMIT);
+        if (!writerIds.isEmpty()) {
+            stringStringRedisTemplate.opsForSet().add(CELEBRITIES_KEY,
+                    writerIds.stream().map(String::valueOf).toArray(String[]::new));
+        }
+        log.info("팔로잉 타임라인 조회 시 병합 작성자 적재: {}명", writerIds.size());
+    }
+
+    // beforeId 보다 오래된 게시글 ID 를 최신순으로 최대 limit 개 (beforeId 가 null 이면 최신 글부터)
+    public List<Long> postIds(Long userId, Long beforeId, int limit) {
+        String key = TIMELINE_PREFIX + userId;
+        ZSetOperations<String, String> zSet = stringStringRedisTemplate.opsForZSet();
+
+        if (zSet.score(key, LOADED_MARKER) == null) {
+            load(userId);
+        }
+        stringStringRedisTemplate.expire(key, TIMELINE_TTL);
+
+        long before = beforeId == null ? Long.MAX_VALUE : beforeId;
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+
+        Set<String> pushed = zSet.reverseRangeByScore(key, 1, (double) before - 1, 0, limit);
+        if (pushed != null) {
+            pushed.forEach(member -> merged.add(Long.valueOf(member)));
+        }
+
+        // 타임라인이 잘려 있고 이번 페이지를 못 채웠으면 그보다 오래된 글은 DB 에서
+        Long size = zSet.zCard(key);
+        if (merged.size() < limit && size != null && size > CAPACITY) {
+            long oldest = merged.isEmpty() ? before : merged.last();
+            merged.addAll(postRepository.findIdsOfFollowingsBefore(userId, oldest, PageRequest.of(0, limit - merged.size())));
+        }
+
+        List<Long> celebrities = followedCelebrities(userId);
+        if (!celebrities.isEmpty()) {
+            merged.addAll(postRepository.findIdsByWriterIdInBefore(celebrities, before, PageRequest.of(0, limit)));
+        }
+
+        return merged.stream().limit(limit).toList();
+    }
+
+    // 팔로워 수가 기준 이하면 적재된 팔로워 타임라인에만 추가 (미적재 타임라인은 다음 조회 때 DB 에서 만들어짐)
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        Long writerId = event.writerId();
+        String writer = String.valueOf(writerId);
+
+        if (Boolean.TRUE.equals(stringStringRedisTemplate.opsForSet().isMember(CELEBRITIES_KEY, writer))) {
+            return;
+        }
+        if (followRepository.countByFollowingId(writerId) > FANOUT_LIMIT) {
+            stringStringRedisTemplate.opsForSet().add(CELEBRITIES_KEY, writer);
+            log.info("팔로워가 많아 조회 시 병합으로 전환: writerId={}", writerId);
+            return;
+        }
+
+        List<Long> followerIds = followRepository.findFollowerIdsByFollowingId(writerId);
+        if (followerIds.isEmpty()) {
+            return;
+        }
+
+        List<Object> markers = stringStringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ZSetOperations<String, String> zSet = ((RedisOperations<String, String>) operations).opsForZSet();
+                for (Long followerId : followerIds) {
+                    zSet.score(TIMELINE_PREFIX + followerId, LOADED_MARKER);
+                }
+                return null;
+            }
+        });
+
+        List<String> loadedKeys = new ArrayList<>();
+        for (int i = 0; i < followerIds.size(); i++) {
+            if (markers.get(i) != null) {
+                loadedKeys.add(TIMELINE_PREFIX + followerIds.get(i));
+            }
+        }
+        if (loadedKeys.isEmpty()) {
+            return;
+        }
+
+        String member = String.valueOf(event.postId());
+        stringStringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ZSetOperations<String, String> zSet = ((RedisOperations<String, String>) operations).opsForZSet();
+                for (String key : loadedKeys) {
+                    zSet.add(key, member, event.postId());
+                    // 표시자(순위 0)와 최신 CAPACITY 개만 남김
+                    zSet.removeRange(key, 1, -(CAPACITY + 1));
+                }
+                return null;
+            }
+        });
+    }
+
+    // 팔로우/언팔로우: 해당 유저 타임라인을 버리고 다음 조회 때 DB 기준으로 다시 적재
+    @TransactionalEventListener
+    public void onFollowChanged(UserFollowChangedEvent event) {
+        stringStringRedisTemplate.delete(TIMELINE_PREFIX + event.followerId());
+    }
+
+    private void load(Long userId) {
+        String key = TIMELINE_PREFIX + userId;
+        List<Long> postIds = postRepository.findIdsOfFollowingsBefore(userId, Long.MAX_VALUE, PageRequest.of(0, CAPACITY));
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(ZSetOperations.TypedTuple.of(LOADED_MARKER, 0.0));
+        postIds.forEach(postId -> tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(postId), (double) postId)));
+
+        stringStringRedisTemplate.delete(key);
+        stringStringRedisTemplate.opsForZSet().add(key, tuples);
+    }
+
+    private List<Long> followedCelebrities(Long userId) {
+        Set<String> celebrities = stringStringRedisTemplate.opsForSet().members(CELEBRITIES_KEY);
+        if (celebrities == null || celebrities.isEmpty()) {
+            return List.of();
+        }
+        return followRepository.findFollowingIdsAmong(userId, celebrities.stream().map(Long::valueOf).toList());
+    }
+}
@@ -0,0 +1,140 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.repository.PostRepository;
+import com.team7.ConcerTUNE.repository.PostViewFlushRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 게시글 조회수 write-behind 카운터
+// 조회 시에는 Redis 해시에 증가분만 쌓고, 주기적으로 posts.view_count 에 한 번에 더함
+// 같은 날 같은 조회자의 반복 조회는 게시글·날짜별 조회자 Set 으로 걸러냄
+// 떼어낸 해시마다 배치 ID 를 붙여 증가분과 같은 트랜잭션에 기록하므로, 커밋 후 해시 삭제가 실패해도 두 번 더하지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewCounter {
+
+    private static final String PENDING_KEY = "PostViews:pending";
+    private static final String FLUSHING_KEY = "PostViews:flushing";
+    // 반영 중 해시의 배치 ID (반영 중 해시와 함께 지움)
+    private static final String FLUSHING_BATCH_KEY = "PostViews:flushingBatch";
+    private static final Duration FLUSH_RECORD_RETENTION = Duration.ofDays(1);
+    // 여러 노드의 반영 작업이 겹치지 않도록 잡는 락 (값은 노드별 토큰)
+    private static final String FLUSH_LOCK_KEY = "PostViews:flushLock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(60);
+    // 내 토큰일 때만 락 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+    private static final String VIEWERS_PREFIX = "PostViewers:";
+    private static final Duration VIEWERS_TTL = Duration.ofDays(1);
+
+    private final PostRepository postRepository;
+    private final PostViewFlushRepository postViewFlushRepository;
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+
+    // 조회 1회 기록. 반환값은 아직 DB 에 반영되지 않은 증가분
+    public long record(Long postId, String viewerKey) {
+        String field = String.valueOf(postId);
+        try {
+            if (viewerKey != null) {
+                String viewersKey = VIEWERS_PREFIX + postId + ":" + LocalDate.now();
+                Long added = stringStringRedisTemplate.opsForSet().add(viewersKey, viewerKey);
+                stringStringRedisTemplate.expire(viewersKey, VIEWERS_TTL);
+                if (added == null || added == 0) {
+                    return pending(field);
+                }
+            }
+            Long pending = stringStringRedisTemplate.opsForHash().increment(PENDING_KEY, field, 1);
+            return (pending == null ? 0 : pending) + flushing(field);
+        } catch (Exception e) {
+            // Redis 장애 시 조회수는 유실되어도 조회 자체는 성공
+            log.warn("조회수 기록 실패: postId={}", postId, e);
+            return 0;
+        }
+    }
+
+    // 10초마다 쌓인 증가분을 DB 에 반영
+    // 대기 해시를 통째로 이름을 바꿔 떼어내므로 반영 중 들어온 조회는 다음 주기로 넘어감
+    // 락을 잡은 노드만 반영하므로 남아 있는 반영 중 해시는 다른 노드가 처리 중인 것이 아니라 실패한 이전 작업의 것
+    @Scheduled(fixedDelay = 10_000)
+    @Transactional
+    public void flush() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringStringRedisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, FLUSH_LOCK_TTL))) {
+            return;
+        }
+        // 커밋/롤백이 끝난 뒤 락 해제 (반영 중 해시 삭제가 끝난 다음)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                stringStringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+            }
+        });
+
+        // 이전 반영이 실패해 남은 해시가 있으면 그것부터 처리
+        if (!Boolean.TRUE.equals(stringStringRedisTemplate.hasKey(FLUSHING_KEY))) {
+            if (!Boolean.TRUE.equals(stringStringRedisTemplate.hasKey(PENDING_KEY))
+                    || !Boolean.TRUE.equals(stringStringRedisTemplate.renameIfAbsent(PENDING_KEY, FLUSHING_KEY))) {
+                return;
+            }
+        }
+
+        // 재시도라면 처음 붙인 배치 ID 를 그대로 사용
+        stringStringRedisTemplate.opsForValue().setIfAbsent(FLUSHING_BATCH_KEY, UUID.randomUUID().toString());
+        String batchId = stringStringRedisTemplate.opsForValue().get(FLUSHING_BATCH_KEY);
+
+        Map<Object, Object> deltas = stringStringRedisTemplate.opsForHash().entries(FLUSHING_KEY);
+        if (postViewFlushRepository.insertIfAbsent(batchId) == 1) {
+            deltas.forEach((postId, delta) ->
+                    postRepository.incrementViewCount(Long.valueOf((String) postId), Integer.parseInt((String) delta)));
+            log.debug("조회수 반영: batch={}, {}건", batchId, deltas.size());
+        } else {
+            // 이전 주기에 커밋까지 끝났지만 해시를 지우지 못한 배치
+            log.info("이미 반영된 조회수 배치 정리: batch={}", batchId);
+        }
+
+        // DB 커밋이 끝난 뒤에만 떼어낸 해시를 지움 (실패하면 다음 주기에 배치 ID 로 걸러 지움)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stringStringRedisTemplate.delete(List.of(FLUSHING_KEY, FLUSHING_BATCH_KEY));
+            }
+        });
+    }
+
+    // 반영 기록은 남은 해시가 재시도될 동안만 필요
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void purgeFlushRecords() {
+        int purged = postViewFlushRepository.deleteAppliedBefore(LocalDateTime.now().minus(FLUSH_RECORD_RETENTION));
+        log.debug("조회수 반영 기록 정리: {}건", purged);
+    }
+
+    // 아직 DB 에 반영되지 않은 증가분 (대기 + 반영 중)
+    private long pending(String field) {
+        Object value = stringStringRedisTemplate.opsForHash().get(PENDING_KEY, field);
+        return (value == null ? 0 : Long.parseLong((String) value)) + flushing(field);
+    }
+
+    private long flushing(String field) {
+        Object value = stringStringRedisTemplate.opsForHash().get(FLUSHING_KEY, field);
+        return value == null ? 0 : Long.parseLong((String) value);
+    }
+}
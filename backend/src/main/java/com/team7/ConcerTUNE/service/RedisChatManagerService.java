@@ -15,6 +15,7 @@ public class RedisChatManagerService {
 
     private final RedisMessageListenerContainer redisMessageListenerContainer;
     private final MessageListenerAdapter listenerAdapter;
+    private final ChatStreamTransport chatStreamTransport;
 
     private final Map<String, ChannelTopic> topics = new ConcurrentHashMap<>();
     private final Map<String, Integer> chatRoomUserCount = new ConcurrentHashMap<>();
@@ -27,6 +28,12 @@ public class RedisChatManagerService {
 
         chatRoomUserCount.merge(roomId, 1, Integer::sum);
 
+        // 스트림 전송: 노드가 방 스트림을 읽기 시작 (직전 메시지부터 따라잡음)
+        if (chatStreamTransport.isEnabled()) {
+            chatStreamTransport.subscribe(roomId);
+            return;
+        }
+
         if (chatRoomUserCount.get(roomId) == 1 && !topics.containsKey(roomId)) {
             ChannelTopic topic = getTopic(roomId);
 
@@ -39,6 +46,14 @@ public class RedisChatManagerService {
 
         Integer currentCount = chatRoomUserCount.computeIfPresent(roomId, (k, v) -> v > 0 ? v - 1 : 0);
 
+        if (chatStreamTransport.isEnabled()) {
+            if (currentCount != null && currentCount == 0) {
+                chatStreamTransport.unsubscribe(roomId);
+                chatRoomUserCount.remove(roomId);
+            }
+            return;
+        }
+
         if (currentCount != null && currentCount == 0 && topics.containsKey(roomId)) {
             ChannelTopic topic = topics.get(roomId);
 
@@ -13,8 +13,13 @@ import org.springframework.stereotype.Service;
 public class RedisPublisher {
     private final RedisTemplate<String, Object> stringObjectRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final ChatStreamTransport chatStreamTransport;
 
     public void publish(ChatMessageDto message) {
+        if (chatStreamTransport.isEnabled()) {
+            chatStreamTransport.publish(message);
+            return;
+        }
         try {
             String topicName = "chat:room:" + message.getRoomId();
             String jsonMessage = objectMapper.writeValueAsString(message);
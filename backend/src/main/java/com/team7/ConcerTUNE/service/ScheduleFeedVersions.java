@@ -0,0 +1,57 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.event.ArtistFollowChangedEvent;
+import com.team7.ConcerTUNE.event.BookmarkChangedEvent;
+import com.team7.ConcerTUNE.event.LiveChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+
+// 캘린더 피드 ETag 용 버전 번호 (Redis)
+// 공연 승인/수정은 전역 버전을, 북마크/팔로우 변경은 해당 유저 버전을 올림
+// 조회 시에는 버전만 읽으므로 변경이 없으면 DB 를 건드리지 않고 304 응답 가능
+@Component
+@RequiredArgsConstructor
+public class ScheduleFeedVersions {
+
+    private static final String GLOBAL_KEY = "ScheduleFeedVersion";
+    private static final String USER_PREFIX = "ScheduleFeedVersion:";
+
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+
+    public String personalizedTag(Long userId) {
+        String userVersion = stringStringRedisTemplate.opsForValue().get(USER_PREFIX + userId);
+        // 지난 스케줄은 피드에서 빠지므로 날짜가 바뀌면 태그도 바뀜
+        return "\"u" + userId + "-" + globalVersion() + "-" + (userVersion == null ? "0" : userVersion)
+                + "-" + LocalDate.now() + "\"";
+    }
+
+    public String artistTag(Long artistId) {
+        return "\"a" + artistId + "-" + globalVersion() + "\"";
+    }
+
+    @TransactionalEventListener
+    public void onLiveChanged(LiveChangedEvent event) {
+        globalVersion();
+        stringStringRedisTemplate.opsForValue().increment(GLOBAL_KEY);
+    }
+
+    @TransactionalEventListener
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        stringStringRedisTemplate.opsForValue().increment(USER_PREFIX + event.userId());
+    }
+
+    @TransactionalEventListener
+    public void onFollowChanged(ArtistFollowChangedEvent event) {
+        stringStringRedisTemplate.opsForValue().increment(USER_PREFIX + event.userId());
+    }
+
+    // 키가 없으면(최초 기동, Redis 초기화) 현재 시각에서 시작해 예전 태그와 겹치지 않게 함
+    private String globalVersion() {
+        stringStringRedisTemplate.opsForValue().setIfAbsent(GLOBAL_KEY, String.valueOf(System.currentTimeMillis()));
+        return stringStringRedisTemplate.opsForValue().get(GLOBAL_KEY);
+    }
+}
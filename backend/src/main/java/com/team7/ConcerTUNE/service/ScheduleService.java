@@ -3,16 +3,24 @@ package com.team7.ConcerTUNE.service;
 import com.team7.ConcerTUNE.dto.LiveScheduleResponseDto;
 import com.team7.ConcerTUNE.entity.Live;
 import com.team7.ConcerTUNE.entity.LiveArtist;
+import com.team7.ConcerTUNE.entity.RequestStatus;
 import com.team7.ConcerTUNE.repository.BookmarkRepository;
 import com.team7.ConcerTUNE.repository.LiveArtistRepository;
 import com.team7.ConcerTUNE.repository.LiveRepository;
+import com.team7.ConcerTUNE.repository.LiveScheduleRepository;
 import com.team7.ConcerTUNE.repository.UserArtistRepository;
+import com.team7.ConcerTUNE.repository.projection.ScheduleEventView;
+import com.team7.ConcerTUNE.util.IcsWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -28,6 +36,7 @@ public class ScheduleService {
     private final LiveArtistRepository liveArtistRepository;
     private final BookmarkRepository bookmarkRepository;
     private final LiveRepository livesRepository;
+    private final LiveScheduleRepository liveScheduleRepository;
 
     public List<LiveScheduleResponseDto> getSchedulesByArtistId(Long artistId) {
 
@@ -47,6 +56,22 @@ public class ScheduleService {
         return schedulesDto;
     }
 
+    // 개인화 캘린더 피드: 스케줄을 읽는 대로 VEVENT 로 바로 출력 (목록을 메모리에 모으지 않음)
+    public void writePersonalizedIcs(Long userId, OutputStream out) throws IOException {
+        try (Stream<ScheduleEventView> events = liveScheduleRepository.streamPersonalizedEvents(
+                userId, RequestStatus.APPROVED, LocalDate.now())) {
+            writeIcs("ConcerTUNE 내 공연 일정", events, out);
+        }
+    }
+
+    // 아티스트별 캘린더 피드
+    public void writeArtistIcs(Long artistId, OutputStream out) throws IOException {
+        try (Stream<ScheduleEventView> events = liveScheduleRepository.streamArtistEvents(
+                artistId, RequestStatus.APPROVED)) {
+            writeIcs("ConcerTUNE 아티스트 공연 일정", events, out);
+        }
+    }
+
     public List<LiveScheduleResponseDto> getPersonalizedUpcomingLives(Long userId) {
         LocalDate today = LocalDate.now();
 
@@ -81,4 +106,24 @@ public class ScheduleService {
 
         return schedulesDto;
     }
+
+    private void writeIcs(String calendarName, Stream<ScheduleEventView> events, OutputStream out) throws IOException {
+        IcsWriter writer = new IcsWriter(out, ZoneId.systemDefault());
+        writer.beginCalendar(calendarName);
+
+        Iterator<ScheduleEventView> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            ScheduleEventView event = iterator.next();
+            writer.event(
+                    "schedule-" + event.getScheduleId() + "@concertune",
+                    event.getTitle(),
+                    event.getVenue(),
+                    event.getTicketUrl(),
+                    event.getLiveDate(),
+                    event.getLiveTime()
+            );
+        }
+
+        writer.endCalendar();
+    }
 }
\ No newline at end of file
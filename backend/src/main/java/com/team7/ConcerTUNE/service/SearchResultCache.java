@@ -0,0 +1,71 @@
+package com.team7.ConcerTUNE.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team7.ConcerTUNE.dto.SearchResponseDto;
+import com.team7.ConcerTUNE.event.LiveChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 통합 검색 첫 페이지 결과 캐시 (정규화된 검색어 + 페이지 크기 단위)
+// 검색은 소수 키워드에 몰리므로 짧은 TTL 로도 DB 부하가 크게 줄어듦
+// 공연이 승인/수정되면 pub/sub 으로 모든 노드의 캐시를 비움
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchResultCache {
+
+    private static final String INVALIDATION_CHANNEL = "search:invalidate";
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<String, CachedPage> cache = Caffeine.newBuilder()
+            .maximumSize(5_000)
+            .expireAfterWrite(TTL)
+            .build();
+
+    @PostConstruct
+    public void subscribeInvalidation() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> cache.invalidateAll(),
+                new ChannelTopic(INVALIDATION_CHANNEL)
+        );
+    }
+
+    // 결과 DTO 는 불변이라 그대로 공유
+    public Page<SearchResponseDto> get(String normalizedKeyword, Pageable pageable, Supplier<Page<SearchResponseDto>> loader) {
+        CachedPage cached = cache.get(pageable.getPageSize() + ":" + normalizedKeyword, key -> {
+            Page<SearchResponseDto> page = loader.get();
+            return new CachedPage(page.getContent(), page.getTotalElements());
+        });
+        return new PageImpl<>(cached.content(), pageable, cached.total());
+    }
+
+    @TransactionalEventListener
+    public void onLiveChanged(LiveChangedEvent event) {
+        cache.invalidateAll();
+        try {
+            stringStringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(event.liveId()));
+        } catch (Exception e) {
+            log.error("검색 결과 캐시 무효화 알림 실패: liveId={}", event.liveId(), e);
+        }
+    }
+
+    private record CachedPage(List<SearchResponseDto> content, long total) {
+    }
+}
@@ -1,54 +1,88 @@
 package com.team7.ConcerTUNE.service;
 
 import com.team7.ConcerTUNE.dto.SearchResponseDto;
-import com.team7.ConcerTUNE.entity.Artist;
-import com.team7.ConcerTUNE.entity.Live;
-import com.team7.ConcerTUNE.repository.ArtistRepository;
+import com.team7.ConcerTUNE.dto.TrendingSearchResponse;
 import com.team7.ConcerTUNE.repository.LiveRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SearchService {
 
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int PREWARM_KEYWORDS = 10;
+
     private final LiveRepository livesRepository;
-    private final ArtistRepository artistRepository;
+    private final SearchSuggestIndex searchSuggestIndex;
+    private final SearchResultCache searchResultCache;
+    private final SearchTrending searchTrending;
+
+    // 검색창 자동완성 (인메모리 트라이, DB 조회 없음)
+    public List<SearchResponseDto> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return searchSuggestIndex.suggest(prefix, limit);
+    }
 
     public Page<SearchResponseDto> searchAll(String keyword, Pageable pageable) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return Page.empty(pageable);
         }
 
-        List<Live> allLiveResults = livesRepository.findByTitleContainingIgnoreCase(keyword, Pageable.unpaged()).getContent();
+        // 정렬은 쿼리에 고정 (일치 정도 > 이름 순)
+        Pageable pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        String normalized = normalize(keyword);
 
-        List<Artist> allArtistResults = artistRepository.findByArtistNameContainingIgnoreCase(keyword, Pageable.unpaged()).getContent();
-
-        List<SearchResponseDto> combinedResults = Stream.concat(
-                        allLiveResults.stream().map(SearchResponseDto::fromLive),
-                        allArtistResults.stream().map(SearchResponseDto::fromArtist)
-                )
-                .collect(Collectors.toList());
+        // 첫 페이지만 캐시 + 검색어 집계 (다음 페이지 조회는 같은 검색으로 봄)
+        if (pageRequest.getPageNumber() != 0) {
+            return search(normalized, pageRequest);
+        }
+        searchTrending.record(normalized);
+        return searchResultCache.get(normalized, pageRequest, () -> search(normalized, pageRequest));
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), combinedResults.size());
+    public List<TrendingSearchResponse> getTrendingKeywords(int limit) {
+        return searchTrending.top(limit);
+    }
 
-        List<SearchResponseDto> pagedContent;
-        if (start > combinedResults.size()) {
-            pagedContent = List.of();
-        } else {
-            pagedContent = combinedResults.subList(start, end);
+    // 인기 검색어 첫 페이지를 미리 캐시에 올려둠
+    @Scheduled(fixedDelay = 30_000)
+    public void prewarmTrendingKeywords() {
+        Pageable pageRequest = PageRequest.of(0, DEFAULT_PAGE_SIZE);
+        for (TrendingSearchResponse trending : searchTrending.top(PREWARM_KEYWORDS)) {
+            String keyword = trending.getKeyword();
+            searchResultCache.get(keyword, pageRequest, () -> search(keyword, pageRequest));
         }
+    }
+
+    private Page<SearchResponseDto> search(String normalizedKeyword, Pageable pageRequest) {
+        return livesRepository.searchLivesAndArtists(normalizedKeyword, toLikePattern(normalizedKeyword), pageRequest)
+                .map(SearchResponseDto::fromView);
+    }
+
+    // 캐시/집계 키: 앞뒤 공백 제거, 연속 공백 하나로, 소문자
+    private String normalize(String keyword) {
+        return keyword.trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
 
-        return new PageImpl<>(pagedContent, pageable, combinedResults.size());
+    // LIKE 특수문자(%, _) 를 그대로 검색하도록 이스케이프
+    private String toLikePattern(String keyword) {
+        return keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,315 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.dto.SearchResponseDto;
+import com.team7.ConcerTUNE.dto.SearchResponseDto.SearchType;
+import com.team7.ConcerTUNE.entity.RequestStatus;
+import com.team7.ConcerTUNE.event.LiveChangedEvent;
+import com.team7.ConcerTUNE.repository.ArtistRepository;
+import com.team7.ConcerTUNE.repository.LiveRepository;
+import com.team7.ConcerTUNE.repository.projection.SuggestionView;
+import com.team7.ConcerTUNE.util.HangulJamo;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 검색창 자동완성용 압축 접두어 트라이 (아티스트 이름 + 승인된 공연 제목)
+// 키는 자모 분해 문자열과 초성 문자열 두 가지 ("방타", "ㅂㅌㅅ" 모두 "방탄소년단" 에 일치)
+// 각 노드가 하위 트리의 상위 MAX_SUGGESTIONS 개를 들고 있어 조회는 접두어 길이만큼만 내려가면 끝남
+// 공연 승인/수정 시 해당 공연과 참여 아티스트만 갱신, 점수(팔로워/북마크 수)는 주기적 재구성으로 반영
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final String UPDATE_CHANNEL = "search:suggest";
+    // 이름 중간 단어부터의 일치도 허용 (단어 시작 위치 최대 개수)
+    private static final int MAX_WORD_STARTS = 5;
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong(Entry::score).reversed()
+            .thenComparing(Entry::name)
+            .thenComparing(Entry::id);
+
+    private final ArtistRepository artistRepository;
+    private final LiveRepository liveRepository;
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trie trie = new Trie();
+    // 재구성이 DB 를 읽기 시작한 뒤 갱신된 공연 (교체 후 다시 반영해 옛 스냅샷에 덮이지 않게 함)
+    private final Set<Long> refreshedDuringRebuild = new HashSet<>();
+
+    @PostConstruct
+    public void subscribeUpdates() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> refreshLive(Long.valueOf(new String(message.getBody()))),
+                new ChannelTopic(UPDATE_CHANNEL)
+        );
+    }
+
+    // 기동 시 + 10분마다 전체 재구성 (점수 반영)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            refreshedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Trie rebuilt = new Trie();
+        artistRepository.findAllSuggestionViews()
+                .forEach(view -> rebuilt.put(Entry.of(SearchType.ARTIST, view)));
+        liveRepository.findSuggestionViewsByRequestStatus(RequestStatus.APPROVED)
+                .forEach(view -> rebuilt.put(Entry.of(SearchType.LIVE, view)));
+
+        List<Long> replay;
+        lock.writeLock().lock();
+        try {
+            trie = rebuilt;
+            replay = new ArrayList<>(refreshedDuringRebuild);
+            refreshedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // 스냅샷보다 늦게 반영된 공연은 DB 의 현재 상태로 다시 적용
+        replay.forEach(this::refreshLive);
+        log.info("자동완성 색인 재구성 완료: {}건 (재반영 {}건)", rebuilt.size(), replay.size());
+    }
+
+    @TransactionalEventListener
+    public void onLiveChanged(LiveChangedEvent event) {
+        try {
+            stringStringRedisTemplate.convertAndSend(UPDATE_CHANNEL, String.valueOf(event.liveId()));
+        } catch (Exception e) {
+            log.warn("자동완성 색인 갱신 알림 실패: liveId={}", event.liveId(), e);
+            refreshLive(event.liveId());
+        }
+    }
+
+    public List<SearchResponseDto> suggest(String prefix, int limit) {
+        String key = HangulJamo.decompose(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        List<Entry> entries;
+        lock.readLock().lock();
+        try {
+            entries = trie.top(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return entries.stream()
+                .limit(Math.max(1, Math.min(limit, MAX_SUGGESTIONS)))
+                .map(Entry::toResponse)
+                .toList();
+    }
+
+    // 공연(승인되지 않았으면 제거)과 참여 아티스트를 DB 의 현재 상태로 갱신
+    private void refreshLive(Long liveId) {
+        SuggestionView live = liveRepository.findSuggestionViewByIdAndRequestStatus(liveId, RequestStatus.APPROVED)
+                .orElse(null);
+        List<SuggestionView> artists = artistRepository.findSuggestionViewsByLiveId(liveId);
+
+        lock.writeLock().lock();
+        try {
+            refreshedDuringRebuild.add(liveId);
+            trie.remove(SearchType.LIVE, liveId);
+            if (live != null) {
+                trie.put(Entry.of(SearchType.LIVE, live));
+            }
+            for (SuggestionView artist : artists) {
+                trie.remove(SearchType.ARTIST, artist.getId());
+                trie.put(Entry.of(SearchType.ARTIST, artist));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Entry(SearchType type, Long id, String name, String imageUrl, long score) {
+
+        static Entry of(SearchType type, SuggestionView view) {
+            return new Entry(type, view.getId(), view.getName(), view.getImageUrl(),
+                    view.getScore() == null ? 0 : view.getScore());
+        }
+
+        String ref() {
+            return type + ":" + id;
+        }
+
+        // 이름의 각 단어 시작 위치부터의 자모 키 + 초성 키
+        Set<String> keys() {
+            Set<String> keys = new LinkedHashSet<>();
+            String[] words = name.trim().split("\\s+");
+            for (int i = 0; i < words.length && i < MAX_WORD_STARTS; i++) {
+                String suffix = String.join("", List.of(words).subList(i, words.length));
+                keys.add(HangulJamo.decompose(suffix));
+                keys.add(HangulJamo.choseong(suffix));
+            }
+            keys.remove("");
+            return keys;
+        }
+
+        SearchResponseDto toResponse() {
+            return SearchResponseDto.builder()
+                    .type(type)
+                    .id(id)
+                    .title(name)
+                    .imageUrl(imageUrl)
+                    .build();
+        }
+    }
+
+    // 압축(radix) 트라이. 외부 동기화는 호출 측 락에 맡김
+    private static class Trie {
+
+        private final Node root = new Node("");
+        private final Map<String, Entry> entries = new HashMap<>();
+
+        int size() {
+            return entries.size();
+        }
+
+        void put(Entry entry) {
+            entries.put(entry.ref(), entry);
+            for (String key : entry.keys()) {
+                insert(root, key, 0, entry);
+            }
+        }
+
+        void remove(SearchType type, Long id) {
+            Entry entry = entries.remove(type + ":" + id);
+            if (entry == null) {
+                return;
+            }
+            for (String key : entry.keys()) {
+                delete(root, key, 0, entry);
+            }
+        }
+
+        List<Entry> top(String prefix) {
+            Node node = root;
+            int pos = 0;
+            while (pos < prefix.length()) {
+                Node child = node.children.get(prefix.charAt(pos));
+                if (child == null) {
+                    return List.of();
+                }
+                String rest = prefix.substring(pos);
+                if (rest.length() <= child.label.length()) {
+                    return child.label.startsWith(rest) ? child.top : List.of();
+                }
+                if (!rest.startsWith(child.label)) {
+                    return List.of();
+                }
+                pos += child.label.length();
+                node = child;
+            }
+            return node.top;
+        }
+
+        private void insert(Node node, String key, int pos, Entry entry) {
+            if (pos == key.length()) {
+                node.terminals.add(entry);
+            } else {
+                char first = key.charAt(pos);
+                Node child = node.children.get(first);
+                if (child == null) {
+                    child = new Node(key.substring(pos));
+                    child.terminals.add(entry);
+                    child.top = List.of(entry);
+                    node.children.put(first, child);
+                } else {
+                    int common = commonPrefixLength(child.label, key, pos);
+                    if (common < child.label.length()) {
+                        // 간선 분할
+                        Node middle = new Node(child.label.substring(0, common));
+                        child.label = child.label.substring(common);
+                        middle.children.put(child.label.charAt(0), child);
+                        middle.top = child.top;
+                        node.children.put(first, middle);
+                        child = middle;
+                    }
+                    insert(child, key, pos + common, entry);
+                }
+            }
+            node.top = merge(node.top, List.of(entry));
+        }
+
+        private void delete(Node node, String key, int pos, Entry entry) {
+            if (pos == key.length()) {
+                node.terminals.remove(entry);
+            } else {
+                Node child = node.children.get(key.charAt(pos));
+                if (child == null || !key.startsWith(child.label, pos)) {
+                    return;
+                }
+                delete(child, key, pos + child.label.length(), entry);
+                if (child.terminals.isEmpty() && child.children.isEmpty()) {
+                    node.children.remove(key.charAt(pos));
+                }
+            }
+            // 하위 노드의 상위 목록으로 다시 계산
+            List<Entry> recomputed = new ArrayList<>(node.terminals);
+            for (Node child : node.children.values()) {
+                recomputed = merge(recomputed, child.top);
+            }
+            node.top = merge(recomputed, List.of());
+        }
+
+        private static int commonPrefixLength(String label, String key, int pos) {
+            int max = Math.min(label.length(), key.length() - pos);
+            int i = 0;
+            while (i < max && label.charAt(i) == key.charAt(pos + i)) {
+                i++;
+            }
+            return i;
+        }
+
+        // 두 목록을 합쳐 중복 제거 후 상위 MAX_SUGGESTIONS 개
+        private static List<Entry> merge(List<Entry> a, List<Entry> b) {
+            Set<Entry> union = new HashSet<>(a);
+            union.addAll(b);
+            return union.stream()
+                    .sorted(RANKING)
+                    .limit(MAX_SUGGESTIONS)
+                    .toList();
+        }
+    }
+
+    private static class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Entry> terminals = new HashSet<>();
+        private List<Entry> top = List.of();
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.dto.TrendingSearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 검색어 빈도 집계 (Redis ZSET, 시간 단위 버킷)
+// 최근 WINDOW_HOURS 시간의 버킷을 합쳐 인기 검색어를 계산
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchTrending {
+
+    private static final String BUCKET_PREFIX = "SearchTrending:";
+    private static final String WINDOW_KEY = "SearchTrending:window";
+    private static final DateTimeFormatter HOUR = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final int WINDOW_HOURS = 6;
+    private static final int MAX_KEYWORD_LENGTH = 50;
+    private static final int MAX_TOP = 50;
+    private static final Duration WINDOW_TTL = Duration.ofSeconds(60);
+
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+
+    // 검색 1회 기록 (정규화된 검색어)
+    public void record(String normalizedKeyword) {
+        if (normalizedKeyword.length() > MAX_KEYWORD_LENGTH) {
+            return;
+        }
+
+        String bucket = BUCKET_PREFIX + HOUR.format(LocalDateTime.now());
+        try {
+            stringStringRedisTemplate.opsForZSet().incrementScore(bucket, normalizedKeyword, 1);
+            stringStringRedisTemplate.expire(bucket, Duration.ofHours(WINDOW_HOURS + 1));
+        } catch (Exception e) {
+            log.warn("검색어 집계 실패: keyword={}", normalizedKeyword, e);
+        }
+    }
+
+    // 인기 검색어 상위 n개 (1~MAX_TOP, 합산 결과는 1분간 재사용)
+    public List<TrendingSearchResponse> top(int n) {
+        int size = Math.max(1, Math.min(n, MAX_TOP));
+        if (Boolean.FALSE.equals(stringStringRedisTemplate.hasKey(WINDOW_KEY))) {
+            LocalDateTime now = LocalDateTime.now();
+            List<String> buckets = new ArrayList<>();
+            for (int i = 1; i < WINDOW_HOURS; i++) {
+                buckets.add(BUCKET_PREFIX + HOUR.format(now.minusHours(i)));
+            }
+            stringStringRedisTemplate.opsForZSet().unionAndStore(BUCKET_PREFIX + HOUR.format(now), buckets, WINDOW_KEY);
+            stringStringRedisTemplate.expire(WINDOW_KEY, WINDOW_TTL);
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                stringStringRedisTemplate.opsForZSet().reverseRangeWithScores(WINDOW_KEY, 0, size - 1);
+
+        List<TrendingSearchResponse> result = new ArrayList<>();
+        if (tuples == null) {
+            return result;
+        }
+        int rank = 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            result.add(new TrendingSearchResponse(rank++, tuple.getValue(), tuple.getScore().longValue()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,144 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.entity.Live;
+import com.team7.ConcerTUNE.entity.LiveSchedule;
+import com.team7.ConcerTUNE.entity.RequestStatus;
+import com.team7.ConcerTUNE.event.LiveChangedEvent;
+import com.team7.ConcerTUNE.repository.LiveRepository;
+import com.team7.ConcerTUNE.repository.LiveScheduleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 승인된 공연의 앞으로의 스케줄을 시간순으로 들고 있는 인메모리 인덱스
+// "가장 가까운 공연 n개" 조회를 DB 없이 처리
+// 공연 승인/수정은 pub/sub 으로 모든 노드에 알려 각자 해당 공연만 다시 적재
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UpcomingLiveTimeline {
+
+    private static final String UPDATE_CHANNEL = "live:timeline";
+
+    private final LiveRepository liveRepository;
+    private final LiveScheduleRepository liveScheduleRepository;
+    private final RedisTemplate<String, String> stringStringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ConcurrentSkipListSet<Entry> timeline = new ConcurrentSkipListSet<>();
+
+    // 서버 기동 시 전체 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<Entry> entries = liveScheduleRepository
+                .findAllWithScheduleFrom(RequestStatus.APPROVED, LocalDate.now())
+                .stream()
+                .map(Entry::from)
+                .toList();
+
+        timeline.clear();
+        timeline.addAll(entries);
+        log.info("공연 타임라인 적재 완료: {}건", entries.size());
+    }
+
+    @PostConstruct
+    public void subscribeUpdates() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> reload(Long.valueOf(new String(message.getBody()))),
+                new ChannelTopic(UPDATE_CHANNEL)
+        );
+    }
+
+    // 공연 승인/수정 시 모든 노드가 해당 공연의 스케줄만 다시 반영
+    @TransactionalEventListener
+    public void onLiveChanged(LiveChangedEvent event) {
+        try {
+            stringStringRedisTemplate.convertAndSend(UPDATE_CHANNEL, String.valueOf(event.liveId()));
+        } catch (Exception e) {
+            log.warn("공연 타임라인 갱신 알림 실패: liveId={}", event.liveId(), e);
+            reload(event.liveId());
+        }
+    }
+
+    private void reload(Long liveId) {
+        timeline.removeIf(entry -> entry.liveId().equals(liveId));
+
+        boolean approved = liveRepository.findById(liveId)
+                .map(Live::getRequestStatus)
+                .filter(status -> status == RequestStatus.APPROVED)
+                .isPresent();
+        if (!approved) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        liveScheduleRepository.findAllWithScheduleByLiveId(liveId).stream()
+                .map(Entry::from)
+                .filter(entry -> !entry.startsAt().toLocalDate().isBefore(today))
+                .forEach(timeline::add);
+    }
+
+    // 자정마다 지난 날짜의 스케줄 제거
+    @Scheduled(cron = "0 0 0 * * *")
+    public void evictPastEntries() {
+        timeline.headSet(Entry.floorOf(LocalDate.now())).clear();
+    }
+
+    // 오늘 이후 가장 가까운 스케줄을 가진 공연 ID n개 (스케줄 시간순, 중복 제거)
+    public List<Long> nextLiveIds(int n) {
+        Set<Long> liveIds = new LinkedHashSet<>();
+
+        for (Entry entry : timeline.tailSet(Entry.floorOf(LocalDate.now()))) {
+            liveIds.add(entry.liveId());
+            if (liveIds.size() == n) {
+                break;
+            }
+        }
+
+        return new ArrayList<>(liveIds);
+    }
+
+    private record Entry(LocalDateTime startsAt, Long scheduleId, Long liveId) implements Comparable<Entry> {
+
+        private static final Comparator<Entry> ORDER = Comparator
+                .comparing(Entry::startsAt)
+                .thenComparing(Entry::scheduleId);
+
+        static Entry from(LiveSchedule liveSchedule) {
+            return new Entry(
+                    LocalDateTime.of(liveSchedule.getSchedule().getLiveDate(), liveSchedule.getSchedule().getLiveTime()),
+                    liveSchedule.getId(),
+                    liveSchedule.getLive().getId()
+            );
+        }
+
+        // 해당 날짜 0시보다 앞서는 가장 작은 경계값
+        static Entry floorOf(LocalDate date) {
+            return new Entry(date.atStartOfDay(), Long.MIN_VALUE, null);
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
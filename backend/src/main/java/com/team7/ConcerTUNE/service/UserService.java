@@ -2,6 +2,8 @@ package com.team7.ConcerTUNE.service;
 
 import com.team7.ConcerTUNE.dto.*;
 import com.team7.ConcerTUNE.entity.*;
+import com.team7.ConcerTUNE.event.UserDeletedEvent;
+import com.team7.ConcerTUNE.event.UsernameChangedEvent;
 import com.team7.ConcerTUNE.exception.BadRequestException;
 import com.team7.ConcerTUNE.repository.BookmarkRepository;
 import com.team7.ConcerTUNE.repository.PostRepository;
@@ -10,6 +12,7 @@ import com.team7.ConcerTUNE.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -31,6 +34,7 @@ public class UserService {
     private final PostRepository postRepository;
     private final BookmarkRepository bookmarkRepository;
     private final UserArtistRepository userArtistRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
@@ -55,8 +59,10 @@ public class UserService {
     @Transactional
     public UserResponse updateMyProfile(User user, UserUpdateRequest request) {
 
-        if (request.getUsername() != null && !request.getUsername().isBlank()) {
+        if (request.getUsername() != null && !request.getUsername().isBlank()
+                && !request.getUsername().equals(user.getUsername())) {
             user.setUsername(request.getUsername());
+            eventPublisher.publishEvent(new UsernameChangedEvent(user.getId()));
         }
 
         if (request.getBio() != null) {
@@ -125,8 +131,11 @@ public class UserService {
         return url != null && url.contains(bucketName);
     }
 
+    // 커밋 후 채팅 발신자 캐시에서도 지워 탈퇴한 유저가 계속 메시지를 보내지 못하게 함
+    @Transactional
     public void deleteUser(User user) {
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserDeletedEvent(user.getId()));
     }
 
     public List<LiveDto> getBookmarkedLivesDto(Long userId) {
@@ -0,0 +1,63 @@
+package com.team7.ConcerTUNE.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색 색인용 토크나이저
+// 형태소 분석 없이 단어를 두 글자씩 겹쳐 자름 (예: "콘서트" -> "콘서", "서트")
+// 한국어처럼 조사가 붙는 언어에서도 부분 일치 검색이 가능함. 한 글자 단어는 그대로 토큰으로 사용
+// 색인 시에는 글자 하나짜리 토큰도 함께 넣어 한 글자 검색어가 긴 단어 안의 글자에도 일치하도록 함
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    // 검색어용. 등장 횟수를 세기 위해 중복 포함 반환
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // 색인용. 두 글자 이상 단어는 바이그램에 더해 글자 하나씩도 토큰으로 추가
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean withUnigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int wordStart = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean inWord = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (inWord && wordStart < 0) {
+                wordStart = i;
+            } else if (!inWord && wordStart >= 0) {
+                addWord(codePoints, wordStart, i, withUnigrams, tokens);
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addWord(int[] codePoints, int start, int end, boolean withUnigrams, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(new String(codePoints, start, 1));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+        if (withUnigrams) {
+            for (int i = start; i < end; i++) {
+                tokens.add(new String(codePoints, i, 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.team7.ConcerTUNE.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+// iCalendar(RFC 5545) 출력기. VEVENT 를 한 건씩 바로 스트림에 씀
+// 줄 끝은 CRLF, 75 바이트를 넘는 줄은 접어서(folding) 출력
+public class IcsWriter {
+
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final OutputStream out;
+    private final ZoneId zone;
+    private final String dtStamp;
+
+    public IcsWriter(OutputStream out, ZoneId zone) {
+        this.out = out;
+        this.zone = zone;
+        this.dtStamp = UTC_DATE_TIME.format(Instant.now().atOffset(ZoneOffset.UTC));
+    }
+
+    public void beginCalendar(String name) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//ConcerTUNE//Schedules//KO");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        line("X-WR-CALNAME:" + escape(name));
+    }
+
+    // 시간이 없는 스케줄은 종일 일정으로 출력
+    public void event(String uid, String summary, String location, String url, LocalDate date, LocalTime time)
+            throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uid);
+        line("DTSTAMP:" + dtStamp);
+        if (time == null) {
+            line("DTSTART;VALUE=DATE:" + DATE.format(date));
+        } else {
+            Instant startsAt = LocalDateTime.of(date, time).atZone(zone).toInstant();
+            line("DTSTART:" + UTC_DATE_TIME.format(startsAt.atOffset(ZoneOffset.UTC)));
+        }
+        line("SUMMARY:" + escape(summary));
+        if (location != null && !location.isBlank()) {
+            line("LOCATION:" + escape(location));
+        }
+        if (url != null && !url.isBlank()) {
+            line("URL:" + url);
+        }
+        line("END:VEVENT");
+    }
+
+    public void endCalendar() throws IOException {
+        line("END:VCALENDAR");
+        out.flush();
+    }
+
+    private void line(String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_LINE_OCTETS) {
+            out.write(bytes);
+            out.write(CRLF);
+            return;
+        }
+
+        // 멀티바이트 문자가 잘리지 않도록 코드포인트 단위로 접음 (이어지는 줄은 공백 한 칸으로 시작)
+        int octets = 0;
+        int limit = MAX_LINE_OCTETS;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            byte[] chunk = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8);
+            if (octets + chunk.length > limit) {
+                out.write(CRLF);
+                out.write(' ');
+                octets = 0;
+                limit = MAX_LINE_OCTETS - 1;
+            }
+            out.write(chunk);
+            octets += chunk.length;
+            i += Character.charCount(codePoint);
+        }
+        out.write(CRLF);
+    }
+
+    private static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+}
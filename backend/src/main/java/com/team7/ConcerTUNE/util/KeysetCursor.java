@@ -0,0 +1,32 @@
+package com.team7.ConcerTUNE.util;
+
+import com.team7.ConcerTUNE.exception.BadRequestException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// 커서 기반 페이지네이션용 (createdAt, id) 키
+// 쿼리 파라미터 형식: ?after=2025-01-01T12:00:00.123456,42
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    public static KeysetCursor parse(String value) {
+        int comma = value.lastIndexOf(',');
+        if (comma < 0) {
+            throw new BadRequestException("커서 형식이 올바르지 않습니다: " + value);
+        }
+
+        try {
+            return new KeysetCursor(
+                    LocalDateTime.parse(value.substring(0, comma).trim()),
+                    Long.valueOf(value.substring(comma + 1).trim())
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BadRequestException("커서 형식이 올바르지 않습니다: " + value, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return createdAt + "," + id;
+    }
+}
@@ -0,0 +1,35 @@
+package com.team7.ConcerTUNE.util;
+
+import java.util.regex.Pattern;
+
+// 게시글 목록 미리보기용 평문 요약
+// HTML 태그 제거, 자주 쓰는 엔티티 복원, 연속 공백을 하나로 줄인 뒤 maxLength 글자에서 자름
+public final class PlainTextSnippet {
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String ELLIPSIS = "...";
+
+    private PlainTextSnippet() {
+    }
+
+    public static String of(String text, int maxLength) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+
+        String plain = TAG.matcher(text).replaceAll(" ")
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&amp;", "&");
+        plain = WHITESPACE.matcher(plain).replaceAll(" ").trim();
+
+        if (plain.codePointCount(0, plain.length()) <= maxLength) {
+            return plain;
+        }
+        // 서로게이트 쌍(이모지 등) 중간에서 자르지 않도록 코드포인트 기준
+        return plain.substring(0, plain.offsetByCodePoints(0, maxLength)) + ELLIPSIS;
+    }
+}
@@ -0,0 +1,95 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.dto.ChatMessageDto;
+import com.team7.ConcerTUNE.entity.ChatMessage;
+import com.team7.ConcerTUNE.exception.ChatOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatMessageWriterTest {
+
+	private static final String ROOM_ID = "1";
+
+	private final CountDownLatch writing = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private ChatMessageWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		// DB 가 멈춘 상황: 작성 스레드가 첫 배치에서 풀려날 때까지 대기
+		when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenAnswer(invocation -> {
+			writing.countDown();
+			release.await();
+			return new int[0][];
+		});
+
+		writer = new ChatMessageWriter(jdbcTemplate);
+		ReflectionTestUtils.setField(writer, "shardCount", 1);
+		ReflectionTestUtils.setField(writer, "queueCapacity", 2);
+		writer.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		writer.shutdown();
+	}
+
+	@Test
+	void rejectsMessageWhenQueueStaysFull() throws InterruptedException {
+		writer.enqueue(message(1L));
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 작성 스레드가 막힌 동안 큐 용량만큼은 받음
+		writer.enqueue(message(2L));
+		writer.enqueue(message(3L));
+
+		long startedAt = System.nanoTime();
+		assertThatThrownBy(() -> writer.enqueue(message(4L)))
+				.isInstanceOf(ChatOverloadedException.class);
+		// 무기한 대기하지 않고 제한 시간 안에 거부
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(5_000);
+	}
+
+	@Test
+	void acceptsAgainOnceQueueDrains() throws InterruptedException {
+		writer.enqueue(message(1L));
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+		writer.enqueue(message(2L));
+		writer.enqueue(message(3L));
+
+		release.countDown();
+
+		assertThatCode(() -> writer.enqueue(message(4L))).doesNotThrowAnyException();
+	}
+
+	private static ChatMessage message(Long id) {
+		return ChatMessage.builder()
+				.id(id)
+				.roomId(ROOM_ID)
+				.userId("1")
+				.sender("tester")
+				.message("hello " + id)
+				.type(ChatMessageDto.MessageType.NORMAL)
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+}
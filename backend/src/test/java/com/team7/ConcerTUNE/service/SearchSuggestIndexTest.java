@@ -0,0 +1,183 @@
+package com.team7.ConcerTUNE.service;
+
+import com.team7.ConcerTUNE.dto.SearchResponseDto;
+import com.team7.ConcerTUNE.entity.RequestStatus;
+import com.team7.ConcerTUNE.event.LiveChangedEvent;
+import com.team7.ConcerTUNE.repository.ArtistRepository;
+import com.team7.ConcerTUNE.repository.LiveRepository;
+import com.team7.ConcerTUNE.repository.projection.SuggestionView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchSuggestIndexTest {
+
+	private ArtistRepository artistRepository;
+	private LiveRepository liveRepository;
+	private SearchSuggestIndex index;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		artistRepository = mock(ArtistRepository.class);
+		liveRepository = mock(LiveRepository.class);
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		// pub/sub 알림이 실패하면 이 노드에서 바로 갱신하므로 갱신 경로를 동기로 탈 수 있음
+		doThrow(new RedisConnectionFailureException("down")).when(redisTemplate).convertAndSend(anyString(), any());
+
+		index = new SearchSuggestIndex(artistRepository, liveRepository, redisTemplate,
+				mock(RedisMessageListenerContainer.class));
+	}
+
+	@Test
+	void splitsSharedPrefixAndMatchesPartialSyllables() {
+		givenIndexed(List.of(view(1L, "방탄소년단", 100), view(2L, "방탄", 50), view(3L, "방송", 10)), List.of());
+
+		assertThat(titles("방")).containsExactly("방탄소년단", "방탄", "방송");
+		assertThat(titles("방타")).containsExactly("방탄소년단", "방탄");
+		assertThat(titles("방탄소")).containsExactly("방탄소년단");
+		assertThat(titles("방소")).containsExactly("방송");
+		assertThat(titles("방탄수")).isEmpty();
+	}
+
+	@Test
+	void matchesCompoundFinalTypedSeparately() {
+		givenIndexed(List.of(view(1L, "닭발", 20), view(2L, "달빛", 10)), List.of());
+
+		assertThat(titles("달")).containsExactly("닭발", "달빛");
+		assertThat(titles("달ㄱ")).containsExactly("닭발");
+		assertThat(titles("닭")).containsExactly("닭발");
+	}
+
+	@Test
+	void matchesChoseongPrefix() {
+		givenIndexed(List.of(view(1L, "방탄소년단", 100), view(2L, "방탄", 50), view(3L, "방송", 10)), List.of());
+
+		assertThat(titles("ㅂㅌ")).containsExactly("방탄소년단", "방탄");
+		assertThat(titles("ㅂㅌㅅ")).containsExactly("방탄소년단");
+		assertThat(titles("ㅂㅅ")).containsExactly("방송");
+	}
+
+	@Test
+	void matchesFromWordStartsOnly() {
+		givenIndexed(List.of(), List.of(view(1L, "Red Velvet Concert", 0)));
+
+		assertThat(titles("velvet")).containsExactly("Red Velvet Concert");
+		assertThat(titles("CONCERT")).containsExactly("Red Velvet Concert");
+		assertThat(titles("elvet")).isEmpty();
+	}
+
+	@Test
+	void refreshReplacesRenamedLive() {
+		givenIndexed(List.of(), List.of(view(1L, "Summer Fest", 0)));
+		when(liveRepository.findSuggestionViewByIdAndRequestStatus(1L, RequestStatus.APPROVED))
+				.thenReturn(Optional.of(view(1L, "Winter Fest", 0)));
+
+		index.onLiveChanged(new LiveChangedEvent(1L, Set.of()));
+
+		assertThat(titles("sum")).isEmpty();
+		assertThat(titles("win")).containsExactly("Winter Fest");
+		assertThat(titles("fest")).containsExactly("Winter Fest");
+	}
+
+	@Test
+	void refreshRemovesUnapprovedLiveAndReinsertsIt() {
+		givenIndexed(List.of(), List.of(view(1L, "방탄 콘서트", 5), view(2L, "방탄 팬미팅", 3)));
+
+		// 승인 취소: 조회 결과 없음
+		index.onLiveChanged(new LiveChangedEvent(1L, Set.of()));
+
+		assertThat(titles("방탄")).containsExactly("방탄 팬미팅");
+		assertThat(titles("방탄콘")).isEmpty();
+		assertThat(titles("ㅋㅅ")).isEmpty();
+
+		when(liveRepository.findSuggestionViewByIdAndRequestStatus(1L, RequestStatus.APPROVED))
+				.thenReturn(Optional.of(view(1L, "방탄 콘서트", 5)));
+		index.onLiveChanged(new LiveChangedEvent(1L, Set.of()));
+
+		assertThat(titles("방탄")).containsExactly("방탄 콘서트", "방탄 팬미팅");
+		assertThat(titles("콘")).containsExactly("방탄 콘서트");
+	}
+
+	@Test
+	void clampsLimitAndRanksByScore() {
+		List<SuggestionView> artists = new ArrayList<>();
+		for (long i = 1; i <= 15; i++) {
+			artists.add(view(i, String.format("artist %02d", i), i));
+		}
+		givenIndexed(artists, List.of());
+
+		assertThat(index.suggest("artist", 100)).hasSize(SearchSuggestIndex.MAX_SUGGESTIONS);
+		assertThat(index.suggest("artist", 0)).hasSize(1);
+		assertThat(index.suggest("artist", -5)).hasSize(1);
+		assertThat(index.suggest("art", 3)).extracting(SearchResponseDto::getTitle)
+				.containsExactly("artist 15", "artist 14", "artist 13");
+		assertThat(index.suggest("  ", 5)).isEmpty();
+	}
+
+	@Test
+	void refreshDuringRebuildIsNotOverwrittenBySnapshot() {
+		when(liveRepository.findSuggestionViewByIdAndRequestStatus(1L, RequestStatus.APPROVED))
+				.thenReturn(Optional.of(view(1L, "Winter Fest", 0)));
+		when(liveRepository.findSuggestionViewsByRequestStatus(RequestStatus.APPROVED)).thenAnswer(invocation -> {
+			// 재구성이 스냅샷을 읽는 사이 공연 제목이 바뀌어 갱신이 먼저 반영된 상황
+			index.onLiveChanged(new LiveChangedEvent(1L, Set.of()));
+			return List.of(view(1L, "Summer Fest", 0));
+		});
+
+		index.rebuild();
+
+		assertThat(titles("win")).containsExactly("Winter Fest");
+		assertThat(titles("sum")).isEmpty();
+	}
+
+	private void givenIndexed(List<SuggestionView> artists, List<SuggestionView> lives) {
+		when(artistRepository.findAllSuggestionViews()).thenReturn(artists);
+		when(liveRepository.findSuggestionViewsByRequestStatus(RequestStatus.APPROVED)).thenReturn(lives);
+		index.rebuild();
+	}
+
+	private List<String> titles(String prefix) {
+		return index.suggest(prefix, SearchSuggestIndex.MAX_SUGGESTIONS).stream()
+				.map(SearchResponseDto::getTitle)
+				.toList();
+	}
+
+	private static SuggestionView view(Long id, String name, long score) {
+		return new SuggestionView() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public String getName() {
+				return name;
+			}
+
+			@Override
+			public String getImageUrl() {
+				return null;
+			}
+
+			@Override
+			public Long getScore() {
+				return score;
+			}
+		};
+	}
+}
@@ -0,0 +1,48 @@
+package com.team7.ConcerTUNE.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+	@Test
+	void decomposeSplitsSyllablesIntoJamo() {
+		assertThat(HangulJamo.decompose("방탄")).isEqualTo("ㅂㅏㅇㅌㅏㄴ");
+		assertThat(HangulJamo.decompose("가")).isEqualTo("ㄱㅏ");
+	}
+
+	@Test
+	void decomposeSplitsCompoundVowelsAndFinals() {
+		assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+		assertThat(HangulJamo.decompose("와")).isEqualTo("ㅇㅗㅏ");
+		assertThat(HangulJamo.decompose("ㄺ")).isEqualTo("ㄹㄱ");
+		assertThat(HangulJamo.decompose("ㅘ")).isEqualTo("ㅗㅏ");
+	}
+
+	@Test
+	void partiallyTypedSyllableIsPrefixOfFullSyllable() {
+		assertThat(HangulJamo.decompose("닭")).startsWith(HangulJamo.decompose("달ㄱ"));
+		assertThat(HangulJamo.decompose("와")).startsWith(HangulJamo.decompose("오"));
+		assertThat(HangulJamo.decompose("방탄소년단")).startsWith(HangulJamo.decompose("방타"));
+	}
+
+	@Test
+	void decomposeDropsWhitespaceAndLowercases() {
+		assertThat(HangulJamo.decompose(" Red  Velvet ")).isEqualTo("redvelvet");
+		assertThat(HangulJamo.decompose("BTS 콘서트")).isEqualTo("btsㅋㅗㄴㅅㅓㅌㅡ");
+	}
+
+	@Test
+	void choseongKeepsOnlyInitialConsonants() {
+		assertThat(HangulJamo.choseong("방탄소년단")).isEqualTo("ㅂㅌㅅㄴㄷ");
+		assertThat(HangulJamo.choseong("BTS 방탄")).isEqualTo("btsㅂㅌ");
+		assertThat(HangulJamo.choseong("ㄱㄴ")).isEqualTo("ㄱㄴ");
+	}
+
+	@Test
+	void emptyInputGivesEmptyKey() {
+		assertThat(HangulJamo.decompose("  ")).isEmpty();
+		assertThat(HangulJamo.choseong("")).isEmpty();
+	}
+}
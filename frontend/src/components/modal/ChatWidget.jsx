@@ -85,9 +85,14 @@ const ChatWidget = ({ roomId, liveName }) => {
                     isTargetedToMe,
                 };
                 
-                setMessages(prev => [...prev, messageWithFlags]);
+                // 스트림 전송은 따라잡기/재접속 시 같은 메시지가 다시 올 수 있음
+                setMessages(prev => prev.some(msg => msg.id === messageWithFlags.id)
+                    ? prev
+                    : [...prev, messageWithFlags]);
                 
                 scrollToBottom();
+            }, (error) => {
+                alert(error.message);
             });
 
             setIsConnected(true);
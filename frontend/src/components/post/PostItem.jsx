@@ -10,7 +10,7 @@ const PostCardItem = ({ post }) => {
     const navigate = useNavigate();
 
     const images = post.images || [];
-    const previewContent = post.content ? post.content.substring(0, 100) + (post.content.length > 100 ? '...' : '') : '내용 없음';
+    const previewContent = post.snippet || '내용 없음';
 
     const openGallery = (index, e) => {
         e.stopPropagation(); // ✅ 카드 클릭 이벤트 막기
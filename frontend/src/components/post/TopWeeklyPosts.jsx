@@ -50,8 +50,8 @@ const TopWeeklyPosts = () => {
                 <div className="space-y-4"> {/* 간격 조정 */}
                     {posts.map((post) => {
                         const categoryInfo = getCategoryInfo(post.category);
-                        const hasImage = post.imageUrls && post.imageUrls.length > 0;
-                        const thumbnailUrl = hasImage ? post.imageUrls[0] : null;
+                        const thumbnailUrl = post.thumbnailUrl;
+                        const hasImage = !!thumbnailUrl;
 
                         return (
                             <Link
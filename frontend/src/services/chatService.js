@@ -2,13 +2,18 @@ import { Client } from "@stomp/stompjs";
 import SockJS from "sockjs-client";
 import api from "./api";
 
+const RESUME_HISTORY_SIZE = 100;
+
 class chatService {
   constructor() {
     this.client = null;
     this.connected = false;
+    this.lastStreamId = null;
   }
 
-  connect(roomId, onMessageReceived) {
+  connect(roomId, onMessageReceived, onError) {
+    this.lastStreamId = null;
+
     return new Promise((resolve, reject) => {
       this.client = new Client({
         webSocketFactory: () => new SockJS("http://localhost:8080/ws-chat"),
@@ -24,9 +29,24 @@ class chatService {
         
         this.client.subscribe(`/topic/chat/room/${roomId}`, (message) => {
           const receiveMessage = JSON.parse(message.body);
+          if (receiveMessage.streamId) {
+            this.lastStreamId = receiveMessage.streamId;
+          }
           onMessageReceived(receiveMessage);
         });
 
+        // 서버가 전송을 거부하면 (저장 큐 포화 등) 보낸 세션에만 에러가 옴
+        this.client.subscribe("/user/queue/errors", (message) => {
+          const error = JSON.parse(message.body);
+          console.error("Chat message rejected: ", error.message);
+          onError?.(error);
+        });
+
+        // 재접속: 끊긴 동안의 메시지를 스트림에서 이어 받음
+        if (this.lastStreamId) {
+          this.resumeFrom(roomId, this.lastStreamId, onMessageReceived);
+        }
+
 
         resolve();
       };
@@ -82,6 +102,42 @@ class chatService {
     }
   }
 
+  resumeFrom = async (roomId, after, onMessageReceived) => {
+    try {
+      let cursor = after;
+      let hasMore = true;
+      while (hasMore) {
+        const response = await api.get(`/api/chat/replay/${roomId}`, {
+          params: { after: cursor }
+        });
+        const data = response.data ?? {};
+
+        // 스트림에서 잘려 나간 구간이 있으면 DB 기록으로 대체
+        if (data.truncated) {
+          await this.resumeFromHistory(roomId, onMessageReceived);
+          return;
+        }
+
+        const messages = data.messages ?? [];
+        messages.forEach((message) => {
+          this.lastStreamId = message.streamId;
+          onMessageReceived(message);
+        });
+        hasMore = Boolean(data.hasMore) && messages.length > 0;
+        cursor = this.lastStreamId;
+      }
+    } catch (error) {
+      console.error("Failed to resume chat: ", error);
+    }
+  }
+
+  // 최근 기록을 오래된 순으로 전달 (이미 받은 메시지는 화면에서 id 로 걸러짐)
+  resumeFromHistory = async (roomId, onMessageReceived) => {
+    const response = await this.fetchChatHistory(roomId, 0, RESUME_HISTORY_SIZE);
+    const messages = Array.isArray(response) ? response : response?.messages ?? [];
+    [...messages].reverse().forEach((message) => onMessageReceived(message));
+  }
+
   fetchChatHistory = async (roomId, page = 0, size = 20) => {
     const response = await api.get(`/api/chat/history/${roomId}`, {
         params: { page, size }
@@ -23,6 +23,25 @@ const userService = {
     }
   },
 
+  // 목록 화면용 좋아요/북마크/팔로우 여부 일괄 조회 (종류별 최대 500개)
+  // 예: getInteractionStatus({ postIds: [1, 2], liveIds: [10] }) -> { likedPostIds: [1], bookmarkedLiveIds: [], ... }
+  getInteractionStatus: async ({ postIds, commentIds, liveIds, artistIds, userIds } = {}) => {
+    const params = {};
+    const join = (ids) => (ids && ids.length > 0 ? ids.join(",") : undefined);
+    params.postIds = join(postIds);
+    params.commentIds = join(commentIds);
+    params.liveIds = join(liveIds);
+    params.artistIds = join(artistIds);
+    params.userIds = join(userIds);
+    try {
+      const res = await api.get(`/api/users/me/status`, { params });
+      return res.data;
+    } catch (error) {
+      console.error("상태 일괄 조회 실패:", error);
+      throw error;
+    }
+  },
+
   // 팔로우 / 언팔로우
   toggleFollow: async (userId) => {
     try {